@@ -3,6 +3,7 @@ plugins {
     id("org.springframework.boot") version "4.0.1"
     id("io.spring.dependency-management") version "1.1.7"
     id("org.openapi.generator") version "7.18.0"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.github.diszexuf"
@@ -23,20 +24,29 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.projectlombok:lombok")
     implementation("org.springframework.boot:spring-boot-starter-webmvc")
+    implementation("tools.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("tools.jackson.dataformat:jackson-dataformat-smile")
 
     implementation("io.swagger.core.v3:swagger-annotations:2.2.20")
     implementation("org.openapitools:jackson-databind-nullable:0.2.6")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("jakarta.validation:jakarta.validation-api:3.0.2")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    runtimeOnly("com.github.ben-manes.caffeine:jcache")
     implementation("org.postgresql:postgresql")
     implementation("org.springframework.boot:spring-boot-starter-liquibase")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     annotationProcessor("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.zonky.test:embedded-postgres:2.1.0")
+    testImplementation(enforcedPlatform("io.zonky.test.postgres:embedded-postgres-binaries-bom:16.4.0"))
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -86,6 +96,37 @@ sourceSets {
     }
 }
 
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    profilers.set(listOf("gc"))
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Нагрузочный прогон создания и чтения интервалов на встроенном PostgreSQL"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("load.") }
+        .mapKeys { it.key.toString() })
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
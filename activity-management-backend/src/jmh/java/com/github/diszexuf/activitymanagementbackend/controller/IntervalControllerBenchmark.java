@@ -0,0 +1,30 @@
+package com.github.diszexuf.activitymanagementbackend.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntervalControllerBenchmark {
+
+    IntervalController controller;
+
+    @Setup
+    public void setUp() {
+        controller = new IntervalController(null, null, null, null);
+    }
+
+    @Benchmark
+    public Sort parseSort() {
+        return controller.parseSort("end,desc");
+    }
+}
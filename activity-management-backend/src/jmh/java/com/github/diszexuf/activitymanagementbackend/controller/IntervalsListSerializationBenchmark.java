@@ -0,0 +1,62 @@
+package com.github.diszexuf.activitymanagementbackend.controller;
+
+import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import org.openapitools.model.IntervalsListResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntervalsListSerializationBenchmark {
+
+    @Param({"10", "100", "10000"})
+    int size;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    ObjectMapper objectMapper;
+    IntervalsListResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+
+        IntervalMapper mapper = new IntervalMapper();
+        response = new IntervalsListResponse();
+        response.intervals(IntStream.range(0, size)
+                .mapToObj(i -> mapper.mapToDto(new Interval(UUID.randomUUID(), TimelineKey.DEFAULT_OWNER, LocalDate.now(),
+                        i * 8, i * 8 + 4, i % 2 == 0 ? ActivityType.WORK : ActivityType.BREAK, OffsetDateTime.now())))
+                .toList());
+        response.totalElements((long) size);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
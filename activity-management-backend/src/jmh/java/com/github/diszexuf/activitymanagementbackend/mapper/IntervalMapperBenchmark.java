@@ -0,0 +1,66 @@
+package com.github.diszexuf.activitymanagementbackend.mapper;
+
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import org.openapitools.model.IntervalResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntervalMapperBenchmark {
+
+    @Param({"10", "100", "10000"})
+    int size;
+
+    IntervalMapper mapper;
+    List<Interval> intervals;
+    List<IntervalView> views;
+
+    @Setup
+    public void setUp() {
+        mapper = new IntervalMapper();
+        intervals = IntStream.range(0, size)
+                .mapToObj(i -> new Interval(UUID.randomUUID(), TimelineKey.DEFAULT_OWNER, LocalDate.now(),
+                        i * 8, i * 8 + 4, i % 2 == 0 ? ActivityType.WORK : ActivityType.BREAK, OffsetDateTime.now()))
+                .toList();
+        views = intervals.stream()
+                .map(interval -> new IntervalView(interval.getId(), interval.getOwnerId(), interval.getDay(),
+                        interval.getStart(), interval.getEnd(), interval.getType(), interval.getCreatedAt()))
+                .toList();
+    }
+
+    @Benchmark
+    public IntervalResponse mapToDto() {
+        return mapper.mapToDto(intervals.getFirst());
+    }
+
+    @Benchmark
+    public List<IntervalResponse> mapToDtos() {
+        return mapper.mapToDtos(intervals);
+    }
+
+    /**
+     * Путь страниц списка: проекция IntervalView вместо сущности.
+     */
+    @Benchmark
+    public List<IntervalResponse> mapViewsToDtos() {
+        return mapper.mapViewsToDtos(views);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверка пересечения нового интервала с сохраненными: таймлайн индекса занятости (TreeMap),
+ * бинарный поиск по отсортированному массиву и полный перебор с тем же условием,
+ * что и в запросе findOverlapping (так БД проверяет строки без индекса по диапазону).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OverlapDetectionBenchmark {
+
+    private static final int DAY_SECONDS = 86400;
+
+    @Param({"10", "100", "10000"})
+    int storedIntervals;
+
+    DayTimeline timeline;
+    int[] starts;
+    int[] ends;
+    int[] probes;
+    int probe;
+
+    @Setup
+    public void setUp() {
+        timeline = new DayTimeline();
+        starts = new int[storedIntervals];
+        ends = new int[storedIntervals];
+
+        int slot = DAY_SECONDS / storedIntervals;
+        for (int i = 0; i < storedIntervals; i++) {
+            starts[i] = i * slot;
+            ends[i] = i * slot + slot / 2;
+
+            Interval interval = new Interval();
+            interval.setStart(starts[i]);
+            interval.setEnd(ends[i]);
+            interval.setType(i % 2 == 0 ? ActivityType.WORK : ActivityType.BREAK);
+            timeline.onCreated(interval);
+        }
+
+        probes = ThreadLocalRandom.current().ints(1024, 0, DAY_SECONDS - 1).toArray();
+    }
+
+    @Benchmark
+    public boolean occupancyIndex() {
+        int start = nextProbe();
+        return !timeline.findOverlapping(start, start + 1, 1).isEmpty();
+    }
+
+    @Benchmark
+    public boolean sortedArrayBinarySearch() {
+        int start = nextProbe();
+        int position = Arrays.binarySearch(starts, start + 1);
+        int previous = (position >= 0 ? position : -position - 1) - 1;
+        return previous >= 0 && ends[previous] > start;
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        int start = nextProbe();
+        int end = start + 1;
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] < end && ends[i] > start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int nextProbe() {
+        probe = (probe + 1) & (probes.length - 1);
+        return probes[probe];
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.diszexuf.activitymanagementbackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)
+                        || !environment.getProperty("db.concurrency.enabled", Boolean.class, true)) {
+                    return bean;
+                }
+
+                int maxConcurrency = dataSource.getMaximumPoolSize();
+                int maxWaiting = environment.getProperty("db.concurrency.max-waiting", Integer.class, 1000);
+                Duration acquireTimeout = environment.getProperty("db.concurrency.acquire-timeout", Duration.class,
+                        Duration.ofSeconds(5));
+                log.info("Ограничение обращений к БД: {} одновременно, до {} в ожидании", maxConcurrency, maxWaiting);
+
+                return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, maxWaiting, acquireTimeout);
+            }
+        };
+    }
+}
@@ -1,11 +1,20 @@
 package com.github.diszexuf.activitymanagementbackend.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
@@ -13,10 +22,33 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${cors.frontend.uri}")
     private String frontUri;
 
+    @Value("${spring.mvc.async.request-timeout}")
+    private Duration asyncRequestTimeout;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/api/v1/intervals")
+        registry.addMapping("/api/v1/**")
                 .allowedOrigins(frontUri)
                 .allowedMethods("GET", "POST");
     }
+
+    /**
+     * Помимо JSON клиенты могут обмениваться интервалами в CBOR и Smile,
+     * формат выбирается по заголовкам Accept и Content-Type.
+     */
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter())
+                .withSmileConverter(new JacksonSmileHttpMessageConverter());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+        configurer.setTaskExecutor(taskExecutor);
+    }
 }
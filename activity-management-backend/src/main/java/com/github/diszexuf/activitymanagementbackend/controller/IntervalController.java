@@ -1,19 +1,40 @@
 package com.github.diszexuf.activitymanagementbackend.controller;
 
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import com.github.diszexuf.activitymanagementbackend.service.IntervalDatasetVersion;
+import com.github.diszexuf.activitymanagementbackend.service.IntervalPageCache;
 import com.github.diszexuf.activitymanagementbackend.service.IntervalService;
+import com.github.diszexuf.activitymanagementbackend.service.TimelineResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openapitools.api.IntervalsApi;
+import org.openapitools.model.ActivityStatsResponse;
 import org.openapitools.model.CreateIntervalRequest;
+import org.openapitools.model.GapsResponse;
 import org.openapitools.model.IntervalResponse;
 import org.openapitools.model.IntervalsListResponse;
+import org.openapitools.model.TimelineResponse;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -21,7 +42,15 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class IntervalController implements IntervalsApi {
 
+    private static final int DAY_START = 0;
+    private static final int DAY_END = 86400;
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR, new MediaType("application", "x-jackson-smile"));
+
     private final IntervalService intervalService;
+    private final IntervalDatasetVersion datasetVersion;
+    private final IntervalPageCache pageCache;
+    private final TimelineResolver timelineResolver;
 
     @Override
     public ResponseEntity<IntervalResponse> createInterval(CreateIntervalRequest createIntervalRequest) {
@@ -31,16 +60,146 @@ public class IntervalController implements IntervalsApi {
     }
 
     @Override
-    public ResponseEntity<IntervalsListResponse> getAllIntervals(Integer page, Integer size, String sort) {
+    public ResponseEntity<List<IntervalResponse>> createIntervalsBatch(List<CreateIntervalRequest> createIntervalRequests) {
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(intervalService.createIntervals(createIntervalRequests));
+    }
+
+    @Override
+    public ResponseEntity<IntervalsListResponse> getAllIntervals(Integer page, Integer size, String sort, String cursor,
+                                                                 Boolean includeTotal, Integer coveringSecond,
+                                                                 Integer overlapsFrom, Integer overlapsTo,
+                                                                 LocalDate day, String ownerId, String ifNoneMatch) {
+        TimelineKey timeline = timelineResolver.resolve(ownerId, day);
+        String version = datasetVersion.current();
+        String eTag = listETag(version, representation(acceptHeader()), timeline, page, size, sort, cursor,
+                includeTotal, coveringSecond, overlapsFrom, overlapsTo);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(findIntervals(version, timeline, page, size, sort, cursor, includeTotal,
+                        coveringSecond, overlapsFrom, overlapsTo));
+    }
+
+    @Override
+    public ResponseEntity<GapsResponse> getGaps(Integer from, Integer to, Integer minDuration,
+                                                LocalDate day, String ownerId) {
+        return ResponseEntity.ok(intervalService.getGaps(timelineResolver.resolve(ownerId, day), from, to, minDuration));
+    }
+
+    @Override
+    public ResponseEntity<ActivityStatsResponse> getStats(LocalDate day, String ownerId) {
+        return ResponseEntity.ok(intervalService.getStats(timelineResolver.resolve(ownerId, day)));
+    }
+
+    @Override
+    public ResponseEntity<TimelineResponse> getTimeline(LocalDate day, String ownerId, String ifNoneMatch) {
+        TimelineKey timeline = timelineResolver.resolve(ownerId, day);
+        String eTag = listETag(datasetVersion.current(), representation(acceptHeader()), "timeline", timeline);
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(intervalService.getTimeline(timeline));
+    }
+
+    private IntervalsListResponse findIntervals(String version, TimelineKey timeline, Integer page, Integer size,
+                                                String sort, String cursor, Boolean includeTotal,
+                                                Integer coveringSecond, Integer overlapsFrom, Integer overlapsTo) {
+        if (coveringSecond != null) {
+            return intervalService.getIntervalsCovering(timeline, coveringSecond);
+        }
+
+        if (overlapsFrom != null || overlapsTo != null) {
+            return intervalService.getIntervalsIntersecting(
+                    timeline,
+                    overlapsFrom != null ? overlapsFrom : DAY_START,
+                    overlapsTo != null ? overlapsTo : DAY_END,
+                    PageRequest.of(page, size),
+                    includeTotal);
+        }
+
+        if (cursor != null) {
+            return intervalService.getIntervalsAfter(timeline, cursor, size, includeTotal);
+        }
+
         Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        return ResponseEntity.ok(intervalService.getAllIntervals(pageable));
+        return pageCache.get(version, timeline, pageable, includeTotal,
+                () -> intervalService.getAllIntervals(timeline, pageable, includeTotal));
+    }
+
+    private String listETag(Object... parts) {
+        String key = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+    }
+
+    private static String acceptHeader() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getHeader(HttpHeaders.ACCEPT)
+                : null;
+    }
+
+    /**
+     * Формат, который выберет согласование по Accept. Он входит в ETag, чтобы JSON и бинарные
+     * ответы на один и тот же запрос не подтверждались одним и тем же тегом.
+     */
+    MediaType representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+
+        List<MediaType> acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : acceptable) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType representation : REPRESENTATIONS) {
+                if (mediaType.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::strip)
+                .anyMatch(candidate -> candidate.equals(eTag) || candidate.equals("*"));
     }
 
-    private Sort parseSort(String sort) {
+    /**
+     * id добавляется вторым ключом, чтобы порядок страниц совпадал с порядком курсора
+     * и строки с одинаковым ключом сортировки не терялись при переходе на курсор.
+     */
+    Sort parseSort(String sort) {
         String[] parts = sort.split(",");
         Sort.Direction direction = "desc".equals(parts[1]) ? Sort.Direction.DESC : Sort.Direction.ASC;
 
-        return Sort.by(direction, parts[0]);
+        return Sort.by(direction, parts[0]).and(Sort.by(direction, "id"));
     }
 
 }
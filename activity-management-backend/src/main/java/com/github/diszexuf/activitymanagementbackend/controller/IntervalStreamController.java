@@ -0,0 +1,22 @@
+package com.github.diszexuf.activitymanagementbackend.controller;
+
+import com.github.diszexuf.activitymanagementbackend.service.IntervalChangeFeed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class IntervalStreamController {
+
+    private final IntervalChangeFeed intervalChangeFeed;
+
+    @GetMapping(value = "/intervals/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIntervals() {
+        return intervalChangeFeed.subscribe();
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.diszexuf.activitymanagementbackend.controller;
+
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import com.github.diszexuf.activitymanagementbackend.service.IntervalExportService;
+import com.github.diszexuf.activitymanagementbackend.service.IntervalImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openapitools.model.ImportResult;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class IntervalTransferController {
+
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final IntervalExportService intervalExportService;
+    private final IntervalImportService intervalImportService;
+
+    @GetMapping(value = "/intervals/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportIntervals(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FileFormat format = resolveFormat(accept);
+        MediaType contentType = format == FileFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON;
+        String filename = format == FileFormat.CSV ? "intervals.csv" : "intervals.ndjson";
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(outputStream -> intervalExportService.exportIntervals(format, outputStream));
+    }
+
+    @PostMapping(value = "/intervals/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<ImportResult> importIntervals(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                        InputStream body) {
+        FileFormat format = contentType.isCompatibleWith(TEXT_CSV) ? FileFormat.CSV : FileFormat.NDJSON;
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(intervalImportService.importIntervals(format, body));
+    }
+
+    private FileFormat resolveFormat(String accept) {
+        if (accept == null) {
+            return FileFormat.NDJSON;
+        }
+
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.includes(MediaType.APPLICATION_NDJSON)) {
+                return FileFormat.NDJSON;
+            }
+            if (mediaType.includes(TEXT_CSV)) {
+                return FileFormat.CSV;
+            }
+        }
+
+        return FileFormat.NDJSON;
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.diszexuf.activitymanagementbackend.event;
+
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+
+public record IntervalCreatedEvent(Interval interval) {
+}
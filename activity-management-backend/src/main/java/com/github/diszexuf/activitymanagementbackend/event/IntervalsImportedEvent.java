@@ -0,0 +1,4 @@
+package com.github.diszexuf.activitymanagementbackend.event;
+
+public record IntervalsImportedEvent(long imported) {
+}
@@ -0,0 +1,25 @@
+package com.github.diszexuf.activitymanagementbackend.exception;
+
+import java.sql.SQLException;
+
+/**
+ * Распознает в цепочке причин нарушение ограничения исключения (SQLSTATE 23P01),
+ * которым БД запрещает пересечение интервалов одного таймлайна.
+ */
+public final class ExclusionViolations {
+
+    private static final String EXCLUSION_VIOLATION_STATE = "23P01";
+
+    private ExclusionViolations() {
+    }
+
+    public static boolean isOverlapViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
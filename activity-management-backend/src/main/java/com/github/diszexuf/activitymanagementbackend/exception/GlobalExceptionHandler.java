@@ -1,12 +1,19 @@
 package com.github.diszexuf.activitymanagementbackend.exception;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.openapitools.model.ErrorResponse;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.OffsetDateTime;
 import java.util.stream.Collectors;
@@ -24,6 +31,12 @@ public class GlobalExceptionHandler {
         errorResponse.setError("INTERVAL_OVERLAP");
         errorResponse.setMessage(exception.getMessage());
         errorResponse.setTimestamp(OffsetDateTime.now().toString());
+        if (!exception.getConflictingItems().isEmpty()) {
+            errorResponse.setConflictingItems(exception.getConflictingItems());
+        }
+        if (!exception.getConflicts().isEmpty()) {
+            errorResponse.setConflicts(exception.getConflicts());
+        }
 
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
@@ -41,6 +54,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException exception) {
+        log.error("Невалидный курсор: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+
+        errorResponse.setError("INVALID_CURSOR");
+        errorResponse.setMessage(exception.getMessage());
+        errorResponse.setTimestamp(OffsetDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidDayException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDay(InvalidDayException exception) {
+        log.error("Недопустимый день: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+
+        errorResponse.setError("INVALID_DAY");
+        errorResponse.setMessage(exception.getMessage());
+        errorResponse.setTimestamp(OffsetDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException exception) {
         log.error("Ошибка валидации: {}", exception.getMessage());
@@ -58,6 +97,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidation(HandlerMethodValidationException exception) {
+        log.error("Ошибка валидации: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        String message = exception.getAllErrors()
+                .stream()
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        errorResponse.setError("VALIDATION_ERROR");
+        errorResponse.setMessage(message);
+        errorResponse.setTimestamp(OffsetDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException exception) {
+        log.error("Ошибка валидации: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+        String message = exception.getConstraintViolations()
+                .stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.joining(", "));
+        errorResponse.setError("VALIDATION_ERROR");
+        errorResponse.setMessage(message);
+        errorResponse.setTimestamp(OffsetDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            ConcurrencyFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(Exception exception) {
+        log.error("БД недоступна: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse();
+
+        errorResponse.setError("SERVICE_UNAVAILABLE");
+        errorResponse.setMessage("Сервис перегружен, повторите запрос позже");
+        errorResponse.setTimestamp(OffsetDateTime.now().toString());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handlerGeneral(Exception exception) {
         log.error("Непредвиденная ошибка: {}", exception.getMessage());
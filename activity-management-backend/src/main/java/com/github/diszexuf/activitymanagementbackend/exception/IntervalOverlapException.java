@@ -1,9 +1,28 @@
 package com.github.diszexuf.activitymanagementbackend.exception;
 
+import lombok.Getter;
+import org.openapitools.model.IntervalResponse;
+
+import java.util.List;
+
+@Getter
 public class IntervalOverlapException extends RuntimeException {
 
+    private final List<Integer> conflictingItems;
+    private final List<IntervalResponse> conflicts;
+
     public IntervalOverlapException(String message) {
+        this(message, List.of(), List.of());
+    }
+
+    public IntervalOverlapException(String message, List<Integer> conflictingItems) {
+        this(message, conflictingItems, List.of());
+    }
+
+    public IntervalOverlapException(String message, List<Integer> conflictingItems, List<IntervalResponse> conflicts) {
         super(message);
+        this.conflictingItems = conflictingItems;
+        this.conflicts = conflicts;
     }
 
 }
@@ -0,0 +1,8 @@
+package com.github.diszexuf.activitymanagementbackend.exception;
+
+public class InvalidDayException extends RuntimeException {
+
+    public InvalidDayException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,19 @@
 package com.github.diszexuf.activitymanagementbackend.mapper;
 
+import com.github.diszexuf.activitymanagementbackend.model.DayStatistics;
 import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.model.TimeWindow;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineSegment;
+import org.openapitools.model.ActivityStatsResponse;
 import org.openapitools.model.ActivityType;
+import org.openapitools.model.Gap;
+import org.openapitools.model.GapsResponse;
+import org.openapitools.model.HourlyStats;
 import org.openapitools.model.IntervalResponse;
+import org.openapitools.model.Segment;
+import org.openapitools.model.TimelineResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -14,15 +25,82 @@ public class IntervalMapper {
         IntervalResponse dto = new IntervalResponse();
 
         dto.setId(entity.getId().toString());
+        dto.setOwnerId(entity.getOwnerId());
+        dto.setDay(entity.getDay());
         dto.setStart(entity.getStart());
         dto.setEnd(entity.getEnd());
-        dto.setType(ActivityType.valueOf(entity.getType().name()));
+        dto.setType(mapType(entity.getType()));
         dto.setCreatedAt(entity.getCreatedAt());
 
         return dto;
     }
 
+    public IntervalResponse mapToDto(IntervalView view) {
+        IntervalResponse dto = new IntervalResponse();
+
+        dto.setId(view.id().toString());
+        dto.setOwnerId(view.ownerId());
+        dto.setDay(view.day());
+        dto.setStart(view.start());
+        dto.setEnd(view.end());
+        dto.setType(mapType(view.type()));
+        dto.setCreatedAt(view.createdAt());
+
+        return dto;
+    }
+
     public List<IntervalResponse> mapToDtos(List<Interval> entities) {
         return entities.stream().map(this::mapToDto).toList();
     }
+
+    public List<IntervalResponse> mapViewsToDtos(List<IntervalView> views) {
+        return views.stream().map(this::mapToDto).toList();
+    }
+
+    public GapsResponse mapToGapsDto(List<TimeWindow> windows) {
+        GapsResponse dto = new GapsResponse();
+
+        dto.setGaps(windows.stream().map(window -> new Gap().start(window.start()).end(window.end())).toList());
+
+        return dto;
+    }
+
+    public ActivityStatsResponse mapToStatsDto(DayStatistics statistics) {
+        ActivityStatsResponse dto = new ActivityStatsResponse();
+
+        dto.setWorkSeconds(statistics.workSeconds());
+        dto.setBreakSeconds(statistics.breakSeconds());
+        dto.setFreeSeconds(statistics.freeSeconds());
+        dto.setHourly(statistics.hours().stream()
+                .map(hour -> new HourlyStats()
+                        .hour(hour.hour())
+                        .workSeconds(hour.workSeconds())
+                        .breakSeconds(hour.breakSeconds())
+                        .freeSeconds(hour.freeSeconds()))
+                .toList());
+
+        return dto;
+    }
+
+    public TimelineResponse mapToTimelineDto(TimelineKey timeline, List<TimelineSegment> segments) {
+        TimelineResponse dto = new TimelineResponse();
+
+        dto.setOwnerId(timeline.ownerId());
+        dto.setDay(timeline.day());
+        dto.setSegments(segments.stream()
+                .map(segment -> new Segment()
+                        .start(segment.start())
+                        .end(segment.end())
+                        .type(mapType(segment.type())))
+                .toList());
+
+        return dto;
+    }
+
+    private static ActivityType mapType(com.github.diszexuf.activitymanagementbackend.model.ActivityType type) {
+        return switch (type) {
+            case WORK -> ActivityType.WORK;
+            case BREAK -> ActivityType.BREAK;
+        };
+    }
 }
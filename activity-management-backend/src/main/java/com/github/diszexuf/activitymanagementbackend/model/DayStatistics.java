@@ -0,0 +1,6 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+import java.util.List;
+
+public record DayStatistics(long workSeconds, long breakSeconds, long freeSeconds, List<HourStatistics> hours) {
+}
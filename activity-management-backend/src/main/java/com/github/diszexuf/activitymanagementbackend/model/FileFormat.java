@@ -0,0 +1,6 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+public enum FileFormat {
+    NDJSON,
+    CSV
+}
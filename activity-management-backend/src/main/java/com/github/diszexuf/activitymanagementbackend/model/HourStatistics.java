@@ -0,0 +1,4 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+public record HourStatistics(int hour, long workSeconds, long breakSeconds, long freeSeconds) {
+}
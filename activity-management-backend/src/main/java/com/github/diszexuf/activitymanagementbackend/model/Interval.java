@@ -3,28 +3,42 @@ package com.github.diszexuf.activitymanagementbackend.model;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.UuidGenerator;
 
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "intervals")
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @Table(name = "intervals", indexes = {
-        @Index(name = "idx_intervals_range", columnList = "start,\"end\""),
-        @Index(name = "idx_intervals_end", columnList = "\"end\""),
-        @Index(name = "idx_intervals_type", columnList = "type")
+        @Index(name = "idx_intervals_range", columnList = "owner_id,day,start,\"end\""),
+        @Index(name = "idx_intervals_end", columnList = "owner_id,day,\"end\""),
+        @Index(name = "idx_intervals_type", columnList = "owner_id,day,type")
 })
 public class Interval {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     @Column(name = "id", updatable = false, nullable = false)
     UUID id;
 
+    @Column(name = "owner_id", updatable = false, nullable = false)
+    String ownerId;
+
+    @Column(name = "day", updatable = false, nullable = false)
+    LocalDate day;
+
     @Column(name = "start", updatable = false, nullable = false)
     Integer start;
 
@@ -38,6 +52,10 @@ public class Interval {
     @Column(name = "created_at", updatable = false, nullable = false)
     OffsetDateTime createdAt;
 
+    public TimelineKey getTimelineKey() {
+        return new TimelineKey(ownerId, day);
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = OffsetDateTime.now();
@@ -0,0 +1,9 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record IntervalView(UUID id, String ownerId, LocalDate day, Integer start, Integer end, ActivityType type,
+                           OffsetDateTime createdAt) {
+}
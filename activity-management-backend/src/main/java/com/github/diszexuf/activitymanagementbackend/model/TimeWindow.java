@@ -0,0 +1,4 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+public record TimeWindow(int start, int end) {
+}
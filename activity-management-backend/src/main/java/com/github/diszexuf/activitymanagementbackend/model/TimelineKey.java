@@ -0,0 +1,11 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+import java.time.LocalDate;
+
+/**
+ * Таймлайн одного владельца за один день. Интервалы не пересекаются только в его пределах.
+ */
+public record TimelineKey(String ownerId, LocalDate day) {
+
+    public static final String DEFAULT_OWNER = "default";
+}
@@ -0,0 +1,4 @@
+package com.github.diszexuf.activitymanagementbackend.model;
+
+public record TimelineSegment(int start, int end, ActivityType type) {
+}
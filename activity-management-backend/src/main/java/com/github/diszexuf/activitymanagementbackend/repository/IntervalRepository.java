@@ -1,15 +1,94 @@
 package com.github.diszexuf.activitymanagementbackend.repository;
 
 import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface IntervalRepository extends JpaRepository<Interval, UUID> {
+/**
+ * Все запросы, кроме выгрузки, ограничены владельцем и днём: условие на day
+ * позволяет Postgres отсечь все секции таблицы, кроме одной. Результаты запросов
+ * таймлайна хранятся в кэше запросов Hibernate и сбрасываются при вставке в intervals.
+ */
+public interface IntervalRepository extends JpaRepository<Interval, UUID>, IntervalRepositoryCustom {
 
-    @Query("select count(i) > 0 from Interval i where i.start < :end and i.end > :start")
-    boolean existsOverlapping(@Param("start") Integer start, @Param("end") Integer end);
+    @Query("""
+            select new com.github.diszexuf.activitymanagementbackend.model.IntervalView(
+                i.id, i.ownerId, i.day, i.start, i.end, i.type, i.createdAt)
+            from Interval i where i.ownerId = :ownerId and i.day = :day""")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    List<IntervalView> findPage(@Param("ownerId") String ownerId, @Param("day") LocalDate day, Pageable pageable);
+
+    @Query("""
+            select new com.github.diszexuf.activitymanagementbackend.model.IntervalView(
+                i.id, i.ownerId, i.day, i.start, i.end, i.type, i.createdAt)
+            from Interval i order by i.day, i.ownerId, i.start""")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000")
+    })
+    Stream<IntervalView> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true")
+    })
+    List<Interval> findByOwnerIdAndDay(String ownerId, LocalDate day);
+
+    @Query("""
+            select i from Interval i
+            where i.ownerId = :ownerId and i.day = :day and i.start < :end and i.end > :start
+            order by i.start""")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Interval> findOverlapping(@Param("ownerId") String ownerId, @Param("day") LocalDate day,
+                                   @Param("start") Integer start, @Param("end") Integer end);
+
+    @Query(value = """
+            select * from intervals
+            where owner_id = :ownerId and day = :day and int4range(start, "end") @> :second""",
+            nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "intervals")
+    })
+    List<Interval> findCovering(@Param("ownerId") String ownerId, @Param("day") LocalDate day,
+                                @Param("second") Integer second);
+
+    @Query(value = """
+            select * from intervals
+            where owner_id = :ownerId and day = :day and int4range(start, "end") && int4range(:from, :to)
+            order by start""",
+            nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "intervals")
+    })
+    List<Interval> findIntersecting(@Param("ownerId") String ownerId, @Param("day") LocalDate day,
+                                    @Param("from") Integer from, @Param("to") Integer to, Pageable pageable);
+
+    @Query(value = """
+            select count(*) from intervals
+            where owner_id = :ownerId and day = :day and int4range(start, "end") && int4range(:from, :to)""",
+            nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "intervals")
+    })
+    long countIntersecting(@Param("ownerId") String ownerId, @Param("day") LocalDate day,
+                           @Param("from") Integer from, @Param("to") Integer to);
 
 }
@@ -0,0 +1,14 @@
+package com.github.diszexuf.activitymanagementbackend.repository;
+
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface IntervalRepositoryCustom {
+
+    List<IntervalView> findAfter(TimelineKey timeline, Sort.Order order, Comparable<?> key, UUID id, int limit);
+
+}
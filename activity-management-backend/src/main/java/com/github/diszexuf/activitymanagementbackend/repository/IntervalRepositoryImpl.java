@@ -0,0 +1,58 @@
+package com.github.diszexuf.activitymanagementbackend.repository;
+
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+
+public class IntervalRepositoryImpl implements IntervalRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<IntervalView> findAfter(TimelineKey timeline, Sort.Order order, Comparable<?> key, UUID id, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IntervalView> query = cb.createQuery(IntervalView.class);
+        Root<Interval> root = query.from(Interval.class);
+
+        Path<Comparable> sortKey = root.get(order.getProperty());
+        Path<UUID> idPath = root.get("id");
+        Comparable value = key;
+
+        // Избыточное условие sortKey >= key позволяет Postgres начать обход индекса с позиции курсора
+        Predicate after = order.isAscending()
+                ? cb.and(cb.greaterThanOrEqualTo(sortKey, value),
+                cb.or(cb.greaterThan(sortKey, value), cb.greaterThan(idPath, id)))
+                : cb.and(cb.lessThanOrEqualTo(sortKey, value),
+                cb.or(cb.lessThan(sortKey, value), cb.lessThan(idPath, id)));
+
+        Predicate sameTimeline = cb.and(cb.equal(root.get("ownerId"), timeline.ownerId()),
+                cb.equal(root.get("day"), timeline.day()));
+
+        query.select(cb.construct(IntervalView.class, root.get("id"), root.get("ownerId"), root.get("day"),
+                        root.get("start"), root.get("end"), root.get("type"), root.get("createdAt")))
+                .where(sameTimeline, after)
+                .orderBy(order.isAscending()
+                        ? List.of(cb.asc(sortKey), cb.asc(idPath))
+                        : List.of(cb.desc(sortKey), cb.desc(idPath)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+}
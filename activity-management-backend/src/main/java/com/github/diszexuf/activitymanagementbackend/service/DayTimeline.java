@@ -0,0 +1,200 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.DayStatistics;
+import com.github.diszexuf.activitymanagementbackend.model.HourStatistics;
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.TimeWindow;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineSegment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Занятость одного таймлайна: интервалы по началу и секунды каждого типа
+ * активности по часам. Загружается из БД при первом обращении, сжатое
+ * представление суток строится при первом чтении после изменения.
+ */
+class DayTimeline {
+
+    private static final int SECONDS_PER_HOUR = 3600;
+    private static final int HOURS_PER_DAY = 24;
+
+    private final NavigableMap<Integer, Interval> byStart = new TreeMap<>();
+    private final long[][] secondsByTypeAndHour = new long[ActivityType.values().length][HOURS_PER_DAY];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+    private volatile List<TimelineSegment> segments;
+
+    void loadIfNeeded(Supplier<List<Interval>> loader) {
+        if (loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                loader.get().forEach(this::add);
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Интервалы таймлайна не пересекаются, поэтому пересекающие [start, end) идут подряд
+     * перед end и перебираются от ближайшего к началу суток.
+     */
+    List<Interval> findOverlapping(int start, int end, int limit) {
+        List<Interval> overlapping = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (Interval interval : byStart.headMap(end, false).descendingMap().values()) {
+                if (interval.getEnd() <= start) {
+                    break;
+                }
+                overlapping.add(interval);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Interval> ordered = overlapping.reversed();
+        return ordered.size() > limit ? List.copyOf(ordered.subList(0, limit)) : ordered;
+    }
+
+    List<TimeWindow> findGaps(int from, int to, int minDuration) {
+        if (from >= to) {
+            return List.of();
+        }
+
+        List<TimeWindow> gaps = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            int free = from;
+            Map.Entry<Integer, Interval> previous = byStart.lowerEntry(from);
+            if (previous != null) {
+                free = Math.max(free, previous.getValue().getEnd());
+            }
+
+            for (Interval occupied : byStart.subMap(from, true, to, false).values()) {
+                if (occupied.getStart() - free >= minDuration) {
+                    gaps.add(new TimeWindow(free, occupied.getStart()));
+                }
+                free = Math.max(free, occupied.getEnd());
+            }
+
+            if (to - free >= minDuration) {
+                gaps.add(new TimeWindow(free, to));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return gaps;
+    }
+
+    /**
+     * Соседние интервалы одного типа, идущие встык, склеиваются в один отрезок,
+     * свободное время в список не попадает.
+     */
+    List<TimelineSegment> segments() {
+        List<TimelineSegment> encoded = segments;
+        if (encoded != null) {
+            return encoded;
+        }
+
+        lock.readLock().lock();
+        try {
+            encoded = segments;
+            if (encoded == null) {
+                encoded = encode();
+                segments = encoded;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return encoded;
+    }
+
+    long count() {
+        lock.readLock().lock();
+        try {
+            return byStart.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    DayStatistics statistics() {
+        List<HourStatistics> hours = new ArrayList<>(HOURS_PER_DAY);
+        long workSeconds = 0;
+        long breakSeconds = 0;
+
+        lock.readLock().lock();
+        try {
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                long work = secondsByTypeAndHour[ActivityType.WORK.ordinal()][hour];
+                long rest = secondsByTypeAndHour[ActivityType.BREAK.ordinal()][hour];
+                hours.add(new HourStatistics(hour, work, rest, SECONDS_PER_HOUR - work - rest));
+                workSeconds += work;
+                breakSeconds += rest;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new DayStatistics(workSeconds, breakSeconds,
+                (long) SECONDS_PER_HOUR * HOURS_PER_DAY - workSeconds - breakSeconds, hours);
+    }
+
+    void onCreated(Interval interval) {
+        lock.writeLock().lock();
+        try {
+            add(interval);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<TimelineSegment> encode() {
+        List<TimelineSegment> encoded = new ArrayList<>();
+        for (Interval interval : byStart.values()) {
+            TimelineSegment last = encoded.isEmpty() ? null : encoded.getLast();
+            if (last != null && last.end() == interval.getStart() && last.type() == interval.getType()) {
+                encoded.set(encoded.size() - 1, new TimelineSegment(last.start(), interval.getEnd(), last.type()));
+            } else {
+                encoded.add(new TimelineSegment(interval.getStart(), interval.getEnd(), interval.getType()));
+            }
+        }
+        return List.copyOf(encoded);
+    }
+
+    private void add(Interval interval) {
+        if (byStart.putIfAbsent(interval.getStart(), interval) != null) {
+            return;
+        }
+        segments = null;
+
+        long[] secondsByHour = secondsByTypeAndHour[interval.getType().ordinal()];
+        for (int hour = interval.getStart() / SECONDS_PER_HOUR; hour * SECONDS_PER_HOUR < interval.getEnd(); hour++) {
+            int hourStart = hour * SECONDS_PER_HOUR;
+            secondsByHour[hour] += Math.min(interval.getEnd(), hourStart + SECONDS_PER_HOUR)
+                    - Math.max(interval.getStart(), hourStart);
+        }
+    }
+}
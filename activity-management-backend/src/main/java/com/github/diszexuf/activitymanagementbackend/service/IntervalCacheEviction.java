@@ -0,0 +1,34 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Импорт пишет в intervals через COPY и JDBC в обход сущностей, поэтому кэш запросов
+ * дополнительно сбрасывается после фиксации. Сброс выполняется раньше остальных слушателей
+ * импорта, чтобы индекс занятости и кэш страниц перечитывали данные уже не из старого кэша.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalCacheEviction {
+
+    EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onIntervalsImported(IntervalsImportedEvent event) {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+        log.info("Кэш запросов сброшен после импорта {} интервалов", event.imported());
+    }
+}
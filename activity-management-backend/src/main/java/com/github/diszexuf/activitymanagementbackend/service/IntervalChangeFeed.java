@@ -0,0 +1,126 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Рассылает подписчикам SSE интервалы, добавленные после фиксации транзакции.
+ * У каждого подписчика своя ограниченная очередь: если клиент не успевает читать
+ * и очередь переполнена, подписка закрывается, а клиент должен переподключиться
+ * и перечитать список.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalChangeFeed {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final int SUBSCRIBER_BUFFER_SIZE = 256;
+
+    IntervalMapper intervalMapper;
+    JsonMapper jsonMapper;
+    Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SseEmitter subscribe() {
+        Subscriber subscriber = new Subscriber(createEmitter(),
+                new ArrayBlockingQueue<>(SUBSCRIBER_BUFFER_SIZE), new AtomicBoolean());
+
+        subscriber.emitter().onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter().onTimeout(() -> subscribers.remove(subscriber));
+        subscriber.emitter().onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        log.debug("Новый подписчик на изменения, всего {}", subscribers.size());
+        return subscriber.emitter();
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener
+    public void onIntervalCreated(IntervalCreatedEvent event) {
+        String data = jsonMapper.writeValueAsString(intervalMapper.mapToDto(event.interval()));
+        publish(SseEmitter.event().name("interval-created").data(data).build());
+    }
+
+    @TransactionalEventListener
+    public void onIntervalsImported(IntervalsImportedEvent event) {
+        publish(SseEmitter.event().name("intervals-imported").data(event.imported()).build());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+    }
+
+    private void publish(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue().offer(event)) {
+                log.warn("Подписчик не успевает получать изменения, подписка закрыта");
+                drop(subscriber);
+                continue;
+            }
+            if (subscriber.draining().compareAndSet(false, true)) {
+                sender.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while ((event = subscriber.queue().poll()) != null) {
+                try {
+                    subscriber.emitter().send(event);
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Подписчик отключился: {}", e.getMessage());
+                    drop(subscriber);
+                    return;
+                }
+            }
+            subscriber.draining().set(false);
+        } while (!subscriber.queue().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue().clear();
+            subscriber.emitter().complete();
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter,
+                              BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue,
+                              AtomicBoolean draining) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidCursorException;
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+record IntervalCursor(Sort.Order order, Comparable<?> key, UUID id) {
+
+    private static final String SEPARATOR = ":";
+
+    static IntervalCursor after(IntervalView interval, Sort.Order order) {
+        Comparable<?> key = switch (order.getProperty()) {
+            case "start" -> interval.start();
+            case "end" -> interval.end();
+            case "type" -> interval.type();
+            default -> throw new IllegalArgumentException("Неподдерживаемое поле сортировки: " + order.getProperty());
+        };
+        return new IntervalCursor(order, key, interval.id());
+    }
+
+    static IntervalCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Некорректный курсор");
+            }
+
+            Sort.Order order = new Sort.Order(Sort.Direction.valueOf(parts[1]), parts[0]);
+            Comparable<?> key = switch (parts[0]) {
+                case "start", "end" -> Integer.valueOf(parts[2]);
+                case "type" -> ActivityType.valueOf(parts[2]);
+                default -> throw new InvalidCursorException("Некорректный курсор");
+            };
+            return new IntervalCursor(order, key, UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Некорректный курсор");
+        }
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, order.getProperty(), order.getDirection().name(), key.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
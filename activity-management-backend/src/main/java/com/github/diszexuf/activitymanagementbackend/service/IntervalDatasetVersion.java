@@ -0,0 +1,36 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Версия набора интервалов, увеличивается после фиксации каждого изменения.
+ * Содержит момент запуска приложения, чтобы версии разных запусков не совпадали.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalDatasetVersion {
+
+    long epoch = System.currentTimeMillis();
+    AtomicLong version = new AtomicLong();
+
+    public String current() {
+        return epoch + "." + version.get();
+    }
+
+    @TransactionalEventListener
+    public void onIntervalCreated(IntervalCreatedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onIntervalsImported(IntervalsImportedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IntervalExportService {
+
+    void exportIntervals(FileFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,76 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.repository.IntervalRepository;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalExportServiceImpl implements IntervalExportService {
+
+    private static final String CSV_HEADER = "id,ownerId,day,start,end,type,createdAt";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    IntervalRepository intervalRepository;
+    IntervalMapper intervalMapper;
+    JsonMapper jsonMapper;
+
+    /**
+     * Выгружает все интервалы построчно. Строки читаются курсором БД порциями,
+     * поэтому должна выполняться внутри транзакции, иначе драйвер загрузит весь результат в память.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportIntervals(FileFormat format, OutputStream outputStream) throws IOException {
+        log.info("Экспорт интервалов в формате {}", format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long exported = 0;
+
+        if (format == FileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<IntervalView> intervals = intervalRepository.streamAll()) {
+            Iterator<IntervalView> iterator = intervals.iterator();
+            while (iterator.hasNext()) {
+                IntervalView interval = iterator.next();
+                writer.write(format == FileFormat.CSV ? toCsv(interval) : toJson(interval));
+                writer.write('\n');
+                exported++;
+            }
+        }
+
+        writer.flush();
+        log.info("Экспортировано {} интервалов", exported);
+    }
+
+    private String toCsv(IntervalView interval) {
+        return interval.id() + "," + interval.ownerId() + "," + interval.day() + "," + interval.start() + "," + interval.end() + ","
+                + interval.type() + "," + interval.createdAt();
+    }
+
+    private String toJson(IntervalView interval) {
+        return jsonMapper.writeValueAsString(intervalMapper.mapToDto(interval));
+    }
+}
@@ -0,0 +1,149 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidDayException;
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidIntervalException;
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import lombok.RequiredArgsConstructor;
+import org.openapitools.model.CreateIntervalRequest;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Построчно читает импортируемые интервалы из CSV или NDJSON и проверяет каждую запись.
+ * В памяти держится только текущая строка.
+ */
+@Component
+@RequiredArgsConstructor
+class IntervalImportReader {
+
+    private static final int DAY_SECONDS = 86400;
+    private static final List<String> DEFAULT_COLUMNS = List.of("start", "end", "type", "day", "ownerId");
+    private static final int REQUIRED_COLUMNS = 3;
+    private static final Pattern OWNER_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void accept(int index, TimelineKey timeline, int start, int end, ActivityType type) throws IOException;
+    }
+
+    private final JsonMapper jsonMapper;
+    private final TimelineResolver timelineResolver;
+
+    int read(FileFormat format, InputStream inputStream, RecordHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        int[] columns = null;
+        int index = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            CreateIntervalRequest request;
+            if (format == FileFormat.NDJSON) {
+                request = parseJson(line, index);
+            } else if (columns == null && !Character.isDigit(line.strip().charAt(0))) {
+                columns = parseHeader(line);
+                continue;
+            } else {
+                if (columns == null) {
+                    columns = new int[]{0, 1, 2, 3, 4};
+                }
+                request = parseCsv(line, columns, index);
+            }
+
+            accept(index, request, handler);
+            index++;
+        }
+
+        return index;
+    }
+
+    private int[] parseHeader(String header) {
+        List<String> names = Arrays.stream(header.split(",")).map(String::strip).toList();
+
+        int[] columns = DEFAULT_COLUMNS.stream().mapToInt(names::indexOf).toArray();
+        for (int column = 0; column < REQUIRED_COLUMNS; column++) {
+            if (columns[column] < 0) {
+                throw new InvalidIntervalException("В заголовке CSV отсутствует колонка " + DEFAULT_COLUMNS.get(column));
+            }
+        }
+        return columns;
+    }
+
+    private CreateIntervalRequest parseCsv(String line, int[] columns, int index) {
+        String[] values = line.split(",");
+        if (values.length <= Arrays.stream(columns).limit(REQUIRED_COLUMNS).max().orElseThrow()) {
+            throw new InvalidIntervalException("Запись " + index + ": недостаточно колонок");
+        }
+
+        try {
+            CreateIntervalRequest request = new CreateIntervalRequest();
+            request.setStart(Integer.parseInt(values[columns[0]].strip()));
+            request.setEnd(Integer.parseInt(values[columns[1]].strip()));
+            request.setType(org.openapitools.model.ActivityType.fromValue(values[columns[2]].strip()));
+            String day = optionalValue(values, columns[3]);
+            request.setDay(day != null ? LocalDate.parse(day) : null);
+            request.setOwnerId(optionalValue(values, columns[4]));
+            return request;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidIntervalException("Запись " + index + ": " + e.getMessage());
+        }
+    }
+
+    private static String optionalValue(String[] values, int column) {
+        if (column < 0 || column >= values.length || values[column].isBlank()) {
+            return null;
+        }
+        return values[column].strip();
+    }
+
+    private CreateIntervalRequest parseJson(String line, int index) {
+        try {
+            return jsonMapper.readValue(line, CreateIntervalRequest.class);
+        } catch (JacksonException e) {
+            throw new InvalidIntervalException("Запись " + index + ": некорректный JSON");
+        }
+    }
+
+    private void accept(int index, CreateIntervalRequest request, RecordHandler handler) throws IOException {
+        if (request.getStart() == null || request.getEnd() == null || request.getType() == null) {
+            throw new InvalidIntervalException("Запись " + index + ": обязательны start, end и type");
+        }
+        if (request.getStart() < 0 || request.getEnd() > DAY_SECONDS) {
+            throw new InvalidIntervalException("Запись " + index + ": интервал выходит за пределы суток");
+        }
+        if (request.getStart() >= request.getEnd()) {
+            throw new InvalidIntervalException("Запись " + index + ": start должен быть меньше end");
+        }
+
+        if (request.getOwnerId() != null && !OWNER_ID.matcher(request.getOwnerId()).matches()) {
+            throw new InvalidIntervalException("Запись " + index + ": некорректный ownerId");
+        }
+
+        TimelineKey timeline;
+        try {
+            timeline = timelineResolver.resolveForWrite(request.getOwnerId(), request.getDay());
+        } catch (InvalidDayException e) {
+            throw new InvalidDayException("Запись " + index + ": " + e.getMessage());
+        }
+
+        handler.accept(index, timeline, request.getStart(), request.getEnd(),
+                ActivityType.valueOf(request.getType().name()));
+    }
+}
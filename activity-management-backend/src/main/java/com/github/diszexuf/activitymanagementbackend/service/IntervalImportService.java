@@ -0,0 +1,11 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import org.openapitools.model.ImportResult;
+
+import java.io.InputStream;
+
+public interface IntervalImportService {
+
+    ImportResult importIntervals(FileFormat format, InputStream inputStream);
+}
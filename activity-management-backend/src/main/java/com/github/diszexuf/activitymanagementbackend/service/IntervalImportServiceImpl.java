@@ -0,0 +1,151 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import com.github.diszexuf.activitymanagementbackend.exception.ExclusionViolations;
+import com.github.diszexuf.activitymanagementbackend.exception.IntervalOverlapException;
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
+import org.openapitools.model.ImportResult;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Массовая загрузка интервалов: записи потоком передаются через COPY во временную таблицу,
+ * пересечения проверяются одним набором запросов, затем таблица переносится в intervals.
+ * Таблица intervals не блокируется: интервал, добавленный параллельно после проверки,
+ * отклонит ограничение исключения его секции, и импорт завершится ответом 409.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalImportServiceImpl implements IntervalImportService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_REPORTED_CONFLICTS = 100;
+
+    private static final String CREATE_STAGING_TABLE = """
+            create temp table intervals_import
+            (
+                line     integer     not null,
+                owner_id varchar(64) not null,
+                day      date        not null,
+                start    integer     not null,
+                "end"    integer     not null,
+                type     varchar(5)  not null
+            ) on commit drop""";
+
+    private static final String COPY_STAGING = "copy intervals_import (line, owner_id, day, start, \"end\", type) from stdin with (format csv)";
+
+    private static final String FIND_MUTUAL_OVERLAPS = """
+            select line
+            from (select line, start,
+                         max("end") over (partition by owner_id, day order by start, line
+                                          rows between unbounded preceding and 1 preceding) as reached
+                  from intervals_import) sweep
+            where start < reached
+            order by line
+            limit ?""";
+
+    private static final String FIND_STORED_OVERLAPS = """
+            select s.line
+            from intervals_import s
+            where exists (select 1
+                          from intervals i
+                          where i.owner_id = s.owner_id
+                            and i.day = s.day
+                            and int4range(i.start, i."end") && int4range(s.start, s."end"))
+            order by s.line
+            limit ?""";
+
+    private static final String MERGE_STAGING = """
+            insert into intervals (owner_id, day, start, "end", type)
+            select owner_id, day, start, "end", type from intervals_import order by day, owner_id, start""";
+
+    JdbcTemplate jdbcTemplate;
+    EntityManager entityManager;
+    ApplicationEventPublisher eventPublisher;
+    IntervalImportReader importReader;
+
+    @Override
+    @Transactional
+    public ImportResult importIntervals(FileFormat format, InputStream inputStream) {
+        log.info("Импорт интервалов в формате {}", format);
+
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+        int received = copyToStaging(format, inputStream);
+        jdbcTemplate.execute("analyze intervals_import");
+        log.info("Во временную таблицу загружено {} записей", received);
+
+        TreeSet<Integer> conflicts = new TreeSet<>();
+        conflicts.addAll(jdbcTemplate.queryForList(FIND_MUTUAL_OVERLAPS, Integer.class, MAX_REPORTED_CONFLICTS));
+        conflicts.addAll(jdbcTemplate.queryForList(FIND_STORED_OVERLAPS, Integer.class, MAX_REPORTED_CONFLICTS));
+        if (!conflicts.isEmpty()) {
+            log.warn("Импорт отклонен: {} записей пересекаются", conflicts.size());
+            throw new IntervalOverlapException("Импортируемые интервалы пересекаются",
+                    List.copyOf(conflicts).subList(0, Math.min(conflicts.size(), MAX_REPORTED_CONFLICTS)));
+        }
+
+        int imported = mergeStaging();
+        eventPublisher.publishEvent(new IntervalsImportedEvent(imported));
+        log.info("Импортировано {} интервалов", imported);
+
+        return new ImportResult().imported((long) imported);
+    }
+
+    private int copyToStaging(FileFormat format, InputStream inputStream) {
+        Integer received = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConnection, COPY_STAGING, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                return importReader.read(format, inputStream, (index, timeline, start, end, type) ->
+                        writer.write(index + "," + timeline.ownerId() + "," + timeline.day() + ","
+                                + start + "," + end + "," + type + "\n"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return received != null ? received : 0;
+    }
+
+    /**
+     * Перенос выполняется через Hibernate с пространством запросов intervals: при фиксации
+     * обновляется метка региона intervals, и результаты запросов, начатых до импорта,
+     * не попадут в кэш запросов.
+     */
+    private int mergeStaging() {
+        try {
+            return entityManager.createNativeQuery(MERGE_STAGING)
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace("intervals")
+                    .executeUpdate();
+        } catch (PersistenceException e) {
+            if (ExclusionViolations.isOverlapViolation(e)) {
+                throw new IntervalOverlapException("Импортируемые интервалы пересекаются");
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Метрики операций с интервалами: длительность проверок и запросов, результаты создания
+ * и общее количество интервалов.
+ */
+@Component
+public class IntervalMetrics {
+
+    private final Timer overlapCheckTimer;
+    private final Timer insertTimer;
+    private final Timer listQueryTimer;
+    private final Timer countQueryTimer;
+    private final Counter createdCounter;
+    private final Counter overlapRejectedCounter;
+    private final Counter invalidRejectedCounter;
+    private final Counter serializationFailureCounter;
+    private final DistributionSummary createAttemptsSummary;
+    private final Counter retryExhaustedCounter;
+
+    public IntervalMetrics(MeterRegistry meterRegistry, IntervalOccupancyIndex occupancyIndex) {
+        overlapCheckTimer = timer(meterRegistry, "intervals.overlap.check", "Проверка пересечения по индексу занятости");
+        insertTimer = timer(meterRegistry, "intervals.insert", "Сохранение интервалов в БД");
+        listQueryTimer = timer(meterRegistry, "intervals.list.query", "Запрос страницы интервалов");
+        countQueryTimer = timer(meterRegistry, "intervals.count.query", "Подсчет общего количества интервалов");
+        createdCounter = Counter.builder("intervals.created")
+                .description("Созданные интервалы")
+                .register(meterRegistry);
+        overlapRejectedCounter = rejected(meterRegistry, "overlap");
+        invalidRejectedCounter = rejected(meterRegistry, "invalid");
+        serializationFailureCounter = Counter.builder("intervals.serialization.failures")
+                .description("Транзакции, прерванные из-за конфликта сериализации или взаимной блокировки")
+                .register(meterRegistry);
+        createAttemptsSummary = DistributionSummary.builder("intervals.create.attempts")
+                .description("Число попыток транзакции создания интервалов")
+                .register(meterRegistry);
+        retryExhaustedCounter = Counter.builder("intervals.retry.exhausted")
+                .description("Создания, не выполненные после всех повторов")
+                .register(meterRegistry);
+        Gauge.builder("intervals.total", occupancyIndex, IntervalOccupancyIndex::total)
+                .description("Общее количество интервалов")
+                .register(meterRegistry);
+    }
+
+    public <T> T timeOverlapCheck(Supplier<T> check) {
+        return overlapCheckTimer.record(check);
+    }
+
+    public <T> T timeInsert(Supplier<T> insert) {
+        return insertTimer.record(insert);
+    }
+
+    public <T> T timeListQuery(Supplier<T> query) {
+        return listQueryTimer.record(query);
+    }
+
+    public <T> T timeCountQuery(Supplier<T> query) {
+        return countQueryTimer.record(query);
+    }
+
+    public void intervalsCreated(int count) {
+        createdCounter.increment(count);
+    }
+
+    public void overlapRejected() {
+        overlapRejectedCounter.increment();
+    }
+
+    public void invalidRejected() {
+        invalidRejectedCounter.increment();
+    }
+
+    public void serializationFailure() {
+        serializationFailureCounter.increment();
+    }
+
+    public void createAttempts(int attempts) {
+        createAttemptsSummary.record(attempts);
+    }
+
+    public void retryExhausted() {
+        retryExhaustedCounter.increment();
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("intervals.rejected")
+                .description("Отклоненные при создании интервалы")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
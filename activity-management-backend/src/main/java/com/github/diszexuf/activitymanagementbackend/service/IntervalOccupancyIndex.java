@@ -0,0 +1,123 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import com.github.diszexuf.activitymanagementbackend.model.DayStatistics;
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.TimeWindow;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineSegment;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import com.github.diszexuf.activitymanagementbackend.repository.IntervalRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Копия занятости таймлайнов в памяти. Таймлайн загружается из БД при первом
+ * обращении, в памяти держатся последние {@value #MAX_TIMELINES}. Интервалы
+ * не удаляются и не пересекаются в пределах таймлайна, поэтому найденное здесь
+ * пересечение окончательно, а отсутствие пересечения должна подтвердить БД.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalOccupancyIndex {
+
+    static final int MAX_TIMELINES = 1024;
+
+    IntervalRepository intervalRepository;
+    Map<TimelineKey, DayTimeline> timelines = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TimelineKey, DayTimeline> eldest) {
+            return size() > MAX_TIMELINES;
+        }
+    };
+    AtomicLong total = new AtomicLong();
+
+    @PostConstruct
+    public void load() {
+        long stored = intervalRepository.count();
+
+        synchronized (timelines) {
+            timelines.clear();
+        }
+        total.set(stored);
+
+        log.info("Индекс занятости сброшен: {} интервалов в БД", stored);
+    }
+
+    public List<Interval> findOverlapping(TimelineKey key, int start, int end, int limit) {
+        return timeline(key).findOverlapping(start, end, limit);
+    }
+
+    /**
+     * Пересечения только по таймлайну, который уже в памяти, без обращения к БД: после ошибки
+     * ограничения транзакция прервана, и загрузить вытесненный таймлайн в ней нельзя.
+     */
+    public List<Interval> findLoadedOverlapping(TimelineKey key, int start, int end, int limit) {
+        DayTimeline timeline;
+        synchronized (timelines) {
+            timeline = timelines.get(key);
+        }
+        return timeline != null && timeline.isLoaded() ? timeline.findOverlapping(start, end, limit) : List.of();
+    }
+
+    public List<TimeWindow> findGaps(TimelineKey key, int from, int to, int minDuration) {
+        return timeline(key).findGaps(from, to, minDuration);
+    }
+
+    public long count(TimelineKey key) {
+        return timeline(key).count();
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    public DayStatistics statistics(TimelineKey key) {
+        return timeline(key).statistics();
+    }
+
+    public List<TimelineSegment> segments(TimelineKey key) {
+        return timeline(key).segments();
+    }
+
+    @TransactionalEventListener
+    public void onIntervalsImported(IntervalsImportedEvent event) {
+        load();
+    }
+
+    @TransactionalEventListener
+    public void onIntervalCreated(IntervalCreatedEvent event) {
+        Interval interval = event.interval();
+        total.incrementAndGet();
+
+        DayTimeline timeline;
+        synchronized (timelines) {
+            timeline = timelines.get(interval.getTimelineKey());
+        }
+        // Таймлайн, которого нет в памяти, прочитает интервал из БД при загрузке
+        if (timeline != null) {
+            timeline.onCreated(interval);
+        }
+    }
+
+    private DayTimeline timeline(TimelineKey key) {
+        DayTimeline timeline;
+        synchronized (timelines) {
+            timeline = timelines.computeIfAbsent(key, ignored -> new DayTimeline());
+        }
+        timeline.loadIfNeeded(() -> intervalRepository.findByOwnerIdAndDay(key.ownerId(), key.day()));
+        return timeline;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.openapitools.model.IntervalsListResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Кэш страниц списка интервалов. Ключ содержит версию набора данных, поэтому после фиксации
+ * изменения страницы перечитываются. Одновременные промахи по одному ключу ждут одну загрузку.
+ */
+@Component
+public class IntervalPageCache {
+
+    private final AsyncCache<PageKey, IntervalsListResponse> cache;
+
+    public IntervalPageCache(MeterRegistry meterRegistry,
+                             @Value("${intervals.page-cache.max-size}") long maxSize,
+                             @Value("${intervals.page-cache.ttl}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "intervals.page");
+    }
+
+    public IntervalsListResponse get(String version, TimelineKey timeline, Pageable pageable, boolean includeTotal,
+                                     Supplier<IntervalsListResponse> loader) {
+        PageKey key = new PageKey(version, timeline, pageable, includeTotal);
+        CompletableFuture<IntervalsListResponse> loading = new CompletableFuture<>();
+        CompletableFuture<IntervalsListResponse> existing = cache.asMap().putIfAbsent(key, loading);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            IntervalsListResponse page = loader.get();
+            loading.complete(page);
+            return page;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            cache.asMap().remove(key, loading);
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onIntervalCreated(IntervalCreatedEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onIntervalsImported(IntervalsImportedEvent event) {
+        cache.synchronous().invalidateAll();
+    }
+
+    private IntervalsListResponse await(CompletableFuture<IntervalsListResponse> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record PageKey(String version, TimelineKey timeline, Pageable pageable, boolean includeTotal) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Месячные секции таблицы intervals. Секции всех дней, доступных для записи, создаются заранее
+ * при создании бина, то есть до запуска веб-сервера, и затем по расписанию, каждая отдельным
+ * коротким запросом. Создание секции блокирует intervals целиком, поэтому вставки и импорт
+ * секции не создают и лишнего соединения не берут.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IntervalPartitions {
+
+    JdbcTemplate jdbcTemplate;
+    TimelineResolver timelineResolver;
+
+    @PostConstruct
+    @Scheduled(cron = "${intervals.partitions.cron}", zone = "${intervals.timeline.zone}")
+    public void ensureWritableMonths() {
+        YearMonth first = YearMonth.from(timelineResolver.firstWritableDay());
+        YearMonth last = YearMonth.from(timelineResolver.lastWritableDay());
+
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            jdbcTemplate.queryForObject("select ensure_intervals_partition(?)", String.class, month.atDay(1));
+        }
+
+        log.info("Секции intervals готовы для месяцев {} - {}", first, last);
+    }
+}
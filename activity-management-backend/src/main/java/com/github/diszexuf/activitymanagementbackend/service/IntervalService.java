@@ -1,8 +1,12 @@
 package com.github.diszexuf.activitymanagementbackend.service;
 
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import org.openapitools.model.ActivityStatsResponse;
 import org.openapitools.model.CreateIntervalRequest;
+import org.openapitools.model.GapsResponse;
 import org.openapitools.model.IntervalResponse;
 import org.openapitools.model.IntervalsListResponse;
+import org.openapitools.model.TimelineResponse;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -11,5 +15,20 @@ public interface IntervalService {
 
     IntervalResponse createInterval(CreateIntervalRequest createIntervalRequest);
 
-    IntervalsListResponse getAllIntervals(Pageable pageable);
+    List<IntervalResponse> createIntervals(List<CreateIntervalRequest> createIntervalRequests);
+
+    IntervalsListResponse getAllIntervals(TimelineKey timeline, Pageable pageable, boolean includeTotal);
+
+    IntervalsListResponse getIntervalsAfter(TimelineKey timeline, String cursor, int size, boolean includeTotal);
+
+    IntervalsListResponse getIntervalsCovering(TimelineKey timeline, int second);
+
+    IntervalsListResponse getIntervalsIntersecting(TimelineKey timeline, int from, int to, Pageable pageable,
+                                                   boolean includeTotal);
+
+    GapsResponse getGaps(TimelineKey timeline, int from, int to, int minDuration);
+
+    ActivityStatsResponse getStats(TimelineKey timeline);
+
+    TimelineResponse getTimeline(TimelineKey timeline);
 }
@@ -1,24 +1,39 @@
 package com.github.diszexuf.activitymanagementbackend.service;
 
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
+import com.github.diszexuf.activitymanagementbackend.exception.ExclusionViolations;
 import com.github.diszexuf.activitymanagementbackend.exception.IntervalOverlapException;
 import com.github.diszexuf.activitymanagementbackend.exception.InvalidIntervalException;
 import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
 import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
 import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
 import com.github.diszexuf.activitymanagementbackend.repository.IntervalRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.openapitools.model.ActivityStatsResponse;
 import org.openapitools.model.CreateIntervalRequest;
+import org.openapitools.model.GapsResponse;
 import org.openapitools.model.IntervalResponse;
 import org.openapitools.model.IntervalsListResponse;
+import org.openapitools.model.TimelineResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,30 +42,39 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class IntervalServiceImpl implements IntervalService {
 
+    static final int MAX_CONFLICTS = 10;
+
     IntervalRepository intervalRepository;
     IntervalMapper intervalMapper;
+    IntervalOccupancyIndex occupancyIndex;
+    ApplicationEventPublisher eventPublisher;
+    IntervalMetrics metrics;
+    TimelineResolver timelineResolver;
 
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE)
+    @Transactional
     public IntervalResponse createInterval(CreateIntervalRequest request) {
-        log.info("Создание интервала: start={}, end={}, type={}", request.getStart(), request.getEnd(), request.getType().name());
+        TimelineKey timeline = timelineResolver.resolveForWrite(request.getOwnerId(), request.getDay());
+        log.info("Создание интервала: owner={}, day={}, start={}, end={}, type={}", timeline.ownerId(), timeline.day(),
+                request.getStart(), request.getEnd(), request.getType().name());
 
         if (request.getStart() >= request.getEnd()) {
             log.warn("Ошибка валидации: start >= end ({} >= {})", request.getStart(), request.getEnd());
+            metrics.invalidRejected();
             throw new InvalidIntervalException("start должен быть меньше end");
         }
 
-        if (hasOverlaps(request.getStart(), request.getEnd())) {
+        List<Interval> conflicts = metrics.timeOverlapCheck(() -> occupancyIndex.findOverlapping(
+                timeline, request.getStart(), request.getEnd(), MAX_CONFLICTS));
+        if (!conflicts.isEmpty()) {
             log.warn("Обнаружено пересечение для интервала: start={}, end={}", request.getStart(), request.getEnd());
-            throw new IntervalOverlapException("Интервал пересекается с существующим");
+            metrics.overlapRejected();
+            throw overlapException("Интервал пересекается с существующим", conflicts);
         }
 
-        Interval interval = new Interval();
-        interval.setStart(request.getStart());
-        interval.setEnd(request.getEnd());
-        interval.setType(ActivityType.valueOf(request.getType().name()));
-
-        Interval savedInterval = intervalRepository.save(interval);
+        Interval savedInterval = saveWithoutOverlaps(toInterval(timeline, request));
+        eventPublisher.publishEvent(new IntervalCreatedEvent(savedInterval));
+        metrics.intervalsCreated(1);
 
         log.info("Интервал успешно создан: id={}, start={}, end={}, type={}",
                 savedInterval.getId(), savedInterval.getStart(),
@@ -60,21 +84,281 @@ public class IntervalServiceImpl implements IntervalService {
     }
 
     @Override
-    public IntervalsListResponse getAllIntervals(Pageable pageable) {
-        log.info("Получение всех интервалов");
+    @Transactional
+    public List<IntervalResponse> createIntervals(List<CreateIntervalRequest> requests) {
+        log.info("Пакетное создание интервалов: {} шт.", requests.size());
+
+        List<Integer> invalidItems = IntStream.range(0, requests.size())
+                .filter(i -> requests.get(i).getStart() >= requests.get(i).getEnd())
+                .boxed()
+                .toList();
+        if (!invalidItems.isEmpty()) {
+            log.warn("Ошибка валидации пакета: start >= end у элементов {}", invalidItems);
+            metrics.invalidRejected();
+            throw new InvalidIntervalException("start должен быть меньше end: элементы " + invalidItems);
+        }
+
+        List<TimelineKey> timelines = requests.stream()
+                .map(request -> timelineResolver.resolveForWrite(request.getOwnerId(), request.getDay()))
+                .toList();
+        List<Integer> order = IntStream.range(0, requests.size())
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> timelines.get(i).ownerId())
+                        .thenComparing(i -> timelines.get(i).day())
+                        .thenComparing(i -> requests.get(i).getStart())
+                        .thenComparing(i -> requests.get(i).getEnd()))
+                .toList();
+
+        Set<Integer> conflictingItems = new TreeSet<>();
+        Set<Interval> conflicts = new LinkedHashSet<>();
+        findMutualOverlaps(requests, timelines, order, conflictingItems);
+        findStoredOverlaps(requests, timelines, order, conflictingItems, conflicts);
+        if (!conflictingItems.isEmpty()) {
+            log.warn("Обнаружены пересечения в пакете: элементы {}", conflictingItems);
+            metrics.overlapRejected();
+            throw new IntervalOverlapException(
+                    "Интервалы пакета пересекаются между собой или с существующими: " + conflictingItems,
+                    List.copyOf(conflictingItems),
+                    intervalMapper.mapToDtos(conflicts.stream().limit(MAX_CONFLICTS).toList()));
+        }
+
+        List<Interval> intervals = IntStream.range(0, requests.size())
+                .mapToObj(i -> toInterval(timelines.get(i), requests.get(i)))
+                .toList();
+
+        List<Interval> savedIntervals = saveAllWithoutOverlaps(intervals);
+        savedIntervals.forEach(savedInterval -> eventPublisher.publishEvent(new IntervalCreatedEvent(savedInterval)));
+        metrics.intervalsCreated(savedIntervals.size());
+
+        log.info("Пакет интервалов успешно создан: {} шт.", savedIntervals.size());
+
+        return intervalMapper.mapToDtos(savedIntervals);
+    }
+
+    @Override
+    public IntervalsListResponse getAllIntervals(TimelineKey timeline, Pageable pageable, boolean includeTotal) {
+        log.info("Получение интервалов таймлайна {}", timeline);
+
+        List<IntervalView> intervals = metrics.timeListQuery(
+                () -> intervalRepository.findPage(timeline.ownerId(), timeline.day(), pageable));
+        long totalElements = metrics.timeCountQuery(() -> occupancyIndex.count(timeline));
+
+        log.info("Найдено {} интервалов", intervals.size());
+        IntervalsListResponse intervalsListResponse = new IntervalsListResponse();
+        intervalsListResponse.intervals(intervalMapper.mapViewsToDtos(intervals));
+        if (includeTotal) {
+            intervalsListResponse.totalElements(totalElements);
+        }
+
+        boolean hasNext = pageable.getOffset() + intervals.size() < totalElements;
+        if (hasNext && !intervals.isEmpty() && pageable.getSort().isSorted()) {
+            Sort.Order order = pageable.getSort().iterator().next();
+            intervalsListResponse.nextCursor(IntervalCursor.after(intervals.getLast(), order).encode());
+        }
+
+        return intervalsListResponse;
+    }
+
+    @Override
+    public IntervalsListResponse getIntervalsAfter(TimelineKey timeline, String cursor, int size, boolean includeTotal) {
+        log.info("Получение интервалов таймлайна {} после курсора", timeline);
 
-        List<Interval> intervals = intervalRepository.findAll(pageable).getContent();
+        IntervalCursor position = IntervalCursor.decode(cursor);
+        List<IntervalView> intervals = metrics.timeListQuery(() -> intervalRepository.findAfter(
+                timeline, position.order(), position.key(), position.id(), size + 1));
+        boolean hasNext = intervals.size() > size;
+        if (hasNext) {
+            intervals = intervals.subList(0, size);
+        }
 
         log.info("Найдено {} интервалов", intervals.size());
         IntervalsListResponse intervalsListResponse = new IntervalsListResponse();
+        intervalsListResponse.intervals(intervalMapper.mapViewsToDtos(intervals));
+        if (includeTotal) {
+            intervalsListResponse.totalElements(metrics.timeCountQuery(() -> occupancyIndex.count(timeline)));
+        }
+        if (hasNext && !intervals.isEmpty()) {
+            intervalsListResponse.nextCursor(IntervalCursor.after(intervals.getLast(), position.order()).encode());
+        }
+
+        return intervalsListResponse;
+    }
+
+    @Override
+    public IntervalsListResponse getIntervalsCovering(TimelineKey timeline, int second) {
+        log.info("Получение интервала таймлайна {}, содержащего секунду {}", timeline, second);
+
+        List<Interval> intervals = metrics.timeListQuery(
+                () -> intervalRepository.findCovering(timeline.ownerId(), timeline.day(), second));
+
+        IntervalsListResponse intervalsListResponse = new IntervalsListResponse();
+        intervalsListResponse.intervals(intervalMapper.mapToDtos(intervals));
+        intervalsListResponse.totalElements((long) intervals.size());
+
+        return intervalsListResponse;
+    }
+
+    @Override
+    public IntervalsListResponse getIntervalsIntersecting(TimelineKey timeline, int from, int to, Pageable pageable,
+                                                          boolean includeTotal) {
+        log.info("Получение интервалов таймлайна {}, пересекающих [{}, {})", timeline, from, to);
+
+        IntervalsListResponse intervalsListResponse = new IntervalsListResponse();
+        if (from >= to) {
+            intervalsListResponse.intervals(List.of());
+            if (includeTotal) {
+                intervalsListResponse.totalElements(0L);
+            }
+            return intervalsListResponse;
+        }
+
+        List<Interval> intervals = metrics.timeListQuery(
+                () -> intervalRepository.findIntersecting(timeline.ownerId(), timeline.day(), from, to, pageable));
+
+        log.info("Найдено {} интервалов", intervals.size());
         intervalsListResponse.intervals(intervalMapper.mapToDtos(intervals));
-        intervalsListResponse.totalElements(intervalRepository.count());
+        if (includeTotal) {
+            intervalsListResponse.totalElements(metrics.timeCountQuery(
+                    () -> intervalRepository.countIntersecting(timeline.ownerId(), timeline.day(), from, to)));
+        }
 
         return intervalsListResponse;
     }
 
-    private boolean hasOverlaps(Integer start, Integer end) {
-        return intervalRepository.existsOverlapping(start, end);
+    @Override
+    public GapsResponse getGaps(TimelineKey timeline, int from, int to, int minDuration) {
+        log.info("Поиск свободных промежутков таймлайна {}: from={}, to={}, minDuration={}", timeline, from, to, minDuration);
+
+        return intervalMapper.mapToGapsDto(occupancyIndex.findGaps(timeline, from, to, minDuration));
+    }
+
+    @Override
+    public ActivityStatsResponse getStats(TimelineKey timeline) {
+        return intervalMapper.mapToStatsDto(occupancyIndex.statistics(timeline));
+    }
+
+    @Override
+    public TimelineResponse getTimeline(TimelineKey timeline) {
+        return intervalMapper.mapToTimelineDto(timeline, occupancyIndex.segments(timeline));
+    }
+
+    private static Interval toInterval(TimelineKey timeline, CreateIntervalRequest request) {
+        Interval interval = new Interval();
+        interval.setOwnerId(timeline.ownerId());
+        interval.setDay(timeline.day());
+        interval.setStart(request.getStart());
+        interval.setEnd(request.getEnd());
+        interval.setType(ActivityType.valueOf(request.getType().name()));
+        return interval;
+    }
+
+    private Interval saveWithoutOverlaps(Interval interval) {
+        try {
+            return metrics.timeInsert(() -> intervalRepository.saveAndFlush(interval));
+        } catch (DataIntegrityViolationException e) {
+            if (!ExclusionViolations.isOverlapViolation(e)) {
+                throw e;
+            }
+            log.warn("Пересечение отклонено ограничением БД: start={}, end={}", interval.getStart(), interval.getEnd());
+            metrics.overlapRejected();
+            throw overlapException("Интервал пересекается с существующим", occupancyIndex.findLoadedOverlapping(
+                    interval.getTimelineKey(), interval.getStart(), interval.getEnd(), MAX_CONFLICTS));
+        }
+    }
+
+    private List<Interval> saveAllWithoutOverlaps(List<Interval> intervals) {
+        try {
+            return metrics.timeInsert(() -> intervalRepository.saveAllAndFlush(intervals));
+        } catch (DataIntegrityViolationException e) {
+            if (!ExclusionViolations.isOverlapViolation(e)) {
+                throw e;
+            }
+            log.warn("Пересечение в пакете отклонено ограничением БД");
+            metrics.overlapRejected();
+            throw new IntervalOverlapException("Интервалы пакета пересекаются с существующими");
+        }
+    }
+
+    private static void findMutualOverlaps(List<CreateIntervalRequest> requests, List<TimelineKey> timelines,
+                                           List<Integer> order, Set<Integer> conflictingItems) {
+        Integer furthest = null;
+        for (Integer item : order) {
+            if (furthest != null && !timelines.get(furthest).equals(timelines.get(item))) {
+                furthest = null;
+            }
+            if (furthest != null && requests.get(item).getStart() < requests.get(furthest).getEnd()) {
+                conflictingItems.add(item);
+                conflictingItems.add(furthest);
+            }
+            if (furthest == null || requests.get(item).getEnd() > requests.get(furthest).getEnd()) {
+                furthest = item;
+            }
+        }
+    }
+
+    /**
+     * Пакет отсортирован по таймлайну, поэтому элементы одного таймлайна идут подряд
+     * и проверяются одним запросом к его секции.
+     */
+    private void findStoredOverlaps(List<CreateIntervalRequest> requests, List<TimelineKey> timelines,
+                                    List<Integer> order, Set<Integer> conflictingItems, Set<Interval> conflicts) {
+        int first = 0;
+        while (first < order.size()) {
+            TimelineKey timeline = timelines.get(order.get(first));
+            int last = first;
+            while (last < order.size() && timelines.get(order.get(last)).equals(timeline)) {
+                last++;
+            }
+            findStoredOverlaps(requests, timeline, order.subList(first, last), conflictingItems, conflicts);
+            first = last;
+        }
+    }
+
+    private void findStoredOverlaps(List<CreateIntervalRequest> requests, TimelineKey timeline, List<Integer> order,
+                                    Set<Integer> conflictingItems, Set<Interval> conflicts) {
+        int from = requests.get(order.getFirst()).getStart();
+        int to = order.stream().mapToInt(item -> requests.get(item).getEnd()).max().orElse(from);
+
+        List<Interval> stored = metrics.timeOverlapCheck(
+                () -> intervalRepository.findOverlapping(timeline.ownerId(), timeline.day(), from, to));
+        int position = 0;
+        for (Integer item : order) {
+            CreateIntervalRequest request = requests.get(item);
+            while (position < stored.size() && stored.get(position).getEnd() <= request.getStart()) {
+                position++;
+            }
+            if (position < stored.size() && stored.get(position).getStart() < request.getEnd()) {
+                conflictingItems.add(item);
+                conflicts.add(stored.get(position));
+            }
+        }
+    }
+
+    /**
+     * Сообщение перечисляет найденные пересечения в виде "08:00:00-09:00:00 (Работа)",
+     * сами интервалы передаются в ответ целиком.
+     */
+    private IntervalOverlapException overlapException(String message, List<Interval> conflicts) {
+        if (conflicts.isEmpty()) {
+            return new IntervalOverlapException(message);
+        }
+
+        String described = conflicts.stream()
+                .map(conflict -> formatSecond(conflict.getStart()) + "-" + formatSecond(conflict.getEnd())
+                        + " (" + typeName(conflict.getType()) + ")")
+                .collect(Collectors.joining(", "));
+        return new IntervalOverlapException(message + ": " + described, List.of(), intervalMapper.mapToDtos(conflicts));
+    }
+
+    private static String formatSecond(int second) {
+        return String.format("%02d:%02d:%02d", second / 3600, second / 60 % 60, second % 60);
+    }
+
+    private static String typeName(ActivityType type) {
+        return switch (type) {
+            case WORK -> "Работа";
+            case BREAK -> "Перерыв";
+        };
     }
 
 }
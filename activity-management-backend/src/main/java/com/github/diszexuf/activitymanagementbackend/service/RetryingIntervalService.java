@@ -0,0 +1,125 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import lombok.extern.slf4j.Slf4j;
+import org.openapitools.model.ActivityStatsResponse;
+import org.openapitools.model.CreateIntervalRequest;
+import org.openapitools.model.GapsResponse;
+import org.openapitools.model.IntervalResponse;
+import org.openapitools.model.IntervalsListResponse;
+import org.openapitools.model.TimelineResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Повторяет создание интервалов, прерванное конфликтом сериализации или взаимной блокировкой.
+ * Каждая попытка выполняется в новой транзакции {@link IntervalServiceImpl}, между попытками
+ * выдерживается случайная пауза до экспоненциально растущей границы.
+ */
+@Service
+@Primary
+@Slf4j
+public class RetryingIntervalService implements IntervalService {
+
+    private final IntervalServiceImpl delegate;
+    private final IntervalMetrics metrics;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public RetryingIntervalService(IntervalServiceImpl delegate, IntervalMetrics metrics,
+                                   @Value("${intervals.retry.max-attempts}") int maxAttempts,
+                                   @Value("${intervals.retry.initial-backoff}") Duration initialBackoff,
+                                   @Value("${intervals.retry.max-backoff}") Duration maxBackoff) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @Override
+    public IntervalResponse createInterval(CreateIntervalRequest createIntervalRequest) {
+        return withRetry(() -> delegate.createInterval(createIntervalRequest));
+    }
+
+    @Override
+    public List<IntervalResponse> createIntervals(List<CreateIntervalRequest> createIntervalRequests) {
+        return withRetry(() -> delegate.createIntervals(createIntervalRequests));
+    }
+
+    @Override
+    public IntervalsListResponse getAllIntervals(TimelineKey timeline, Pageable pageable, boolean includeTotal) {
+        return delegate.getAllIntervals(timeline, pageable, includeTotal);
+    }
+
+    @Override
+    public IntervalsListResponse getIntervalsAfter(TimelineKey timeline, String cursor, int size, boolean includeTotal) {
+        return delegate.getIntervalsAfter(timeline, cursor, size, includeTotal);
+    }
+
+    @Override
+    public IntervalsListResponse getIntervalsCovering(TimelineKey timeline, int second) {
+        return delegate.getIntervalsCovering(timeline, second);
+    }
+
+    @Override
+    public IntervalsListResponse getIntervalsIntersecting(TimelineKey timeline, int from, int to, Pageable pageable,
+                                                          boolean includeTotal) {
+        return delegate.getIntervalsIntersecting(timeline, from, to, pageable, includeTotal);
+    }
+
+    @Override
+    public GapsResponse getGaps(TimelineKey timeline, int from, int to, int minDuration) {
+        return delegate.getGaps(timeline, from, to, minDuration);
+    }
+
+    @Override
+    public ActivityStatsResponse getStats(TimelineKey timeline) {
+        return delegate.getStats(timeline);
+    }
+
+    @Override
+    public TimelineResponse getTimeline(TimelineKey timeline) {
+        return delegate.getTimeline(timeline);
+    }
+
+    private <T> T withRetry(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = action.get();
+                metrics.createAttempts(attempt);
+                return result;
+            } catch (ConcurrencyFailureException e) {
+                // Сюда доходят и ошибки flush, и конфликты, обнаруженные БД при фиксации транзакции
+                metrics.serializationFailure();
+                if (attempt >= maxAttempts) {
+                    log.warn("Транзакция прервана после {} попыток: {}", attempt, e.getMessage());
+                    metrics.createAttempts(attempt);
+                    metrics.retryExhausted();
+                    throw e;
+                }
+                log.debug("Попытка {} прервана конфликтом транзакций, повтор", attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        long bound = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyFailureException("Ожидание повтора транзакции прервано", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidDayException;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Определяет таймлайн запроса. День по умолчанию берется по часам с поясом intervals.timeline.zone,
+ * а не по поясу сервера. Записывать можно только в дни окна вокруг текущего дня: для них
+ * секции таблицы создаются заранее.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TimelineResolver {
+
+    Clock clock;
+    Period past;
+    Period future;
+
+    public TimelineResolver(Clock clock,
+                            @Value("${intervals.timeline.past}") Period past,
+                            @Value("${intervals.timeline.future}") Period future) {
+        this.clock = clock;
+        this.past = past;
+        this.future = future;
+    }
+
+    public TimelineKey resolve(String ownerId, LocalDate day) {
+        return new TimelineKey(ownerId != null ? ownerId : TimelineKey.DEFAULT_OWNER, day != null ? day : today());
+    }
+
+    public TimelineKey resolveForWrite(String ownerId, LocalDate day) {
+        TimelineKey timeline = resolve(ownerId, day);
+        if (timeline.day().isBefore(firstWritableDay()) || timeline.day().isAfter(lastWritableDay())) {
+            throw new InvalidDayException("День " + timeline.day() + " вне допустимого диапазона ["
+                    + firstWritableDay() + ", " + lastWritableDay() + "]");
+        }
+        return timeline;
+    }
+
+    public LocalDate firstWritableDay() {
+        return today().minus(past);
+    }
+
+    public LocalDate lastWritableDay() {
+        return today().plus(future);
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+}
@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset diszexuf:2
+create extension if not exists btree_gist;
+
+alter table intervals
+    add constraint intervals_no_overlap exclude using gist (int4range(start, "end") with &&);
+
+comment on constraint intervals_no_overlap on intervals is 'Интервалы не должны пересекаться';
+--rollback alter table intervals drop constraint intervals_no_overlap
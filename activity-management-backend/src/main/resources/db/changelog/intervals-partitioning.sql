@@ -0,0 +1,78 @@
+--liquibase formatted sql
+
+--changeset diszexuf:3
+alter table intervals rename to intervals_legacy;
+
+create table intervals
+(
+    id         UUID        not null default gen_random_uuid(),
+    owner_id   varchar(64) not null,
+    day        date        not null,
+    start      integer     not null check ( start >= 0 and start <= 86400 ),
+    "end"      integer     not null check ( "end" >= 0 and "end" <= 86400 ),
+    type       varchar(5)  not null check ( type in ('WORK', 'BREAK')),
+    created_at timestamp            DEFAULT now(),
+
+    constraint valid_interval check ( start < "end" )
+) partition by range (day);
+
+create or replace function ensure_intervals_partition(target_day date) returns text
+    language plpgsql as
+$$
+declare
+    month_start    date := date_trunc('month', target_day)::date;
+    partition_name text := format('intervals_%s', to_char(month_start, 'YYYY_MM'));
+begin
+    if to_regclass(partition_name) is not null then
+        return partition_name;
+    end if;
+
+    perform pg_advisory_xact_lock(hashtext('intervals_partitions'));
+    if to_regclass(partition_name) is not null then
+        return partition_name;
+    end if;
+
+    execute format('create table %I partition of intervals for values from (%L) to (%L)',
+                   partition_name, month_start, (month_start + interval '1 month')::date);
+    execute format('alter table %I add constraint %I exclude using gist '
+                       || '(owner_id with =, day with =, int4range(start, "end") with &&)',
+                   partition_name, partition_name || '_no_overlap');
+    return partition_name;
+end;
+$$;
+
+-- До появления таймлайнов все интервалы составляли одно расписание, поэтому переносятся целиком в один день
+create temp table intervals_legacy_day on commit drop as
+select coalesce(nullif('${legacy_day}', '')::date, current_date) as day;
+
+select ensure_intervals_partition(month::date)
+from (select day as month
+      from intervals_legacy_day
+      union
+      select date_trunc('month', now()) + make_interval(months => shift)
+      from generate_series(-12, 12) as shift) months;
+
+insert into intervals (id, owner_id, day, start, "end", type, created_at)
+select l.id, 'default', d.day, l.start, l."end", l.type, l.created_at
+from intervals_legacy l
+         cross join intervals_legacy_day d;
+
+drop table intervals_legacy;
+
+alter table intervals
+    add constraint intervals_pkey primary key (id, day);
+
+create index idx_intervals_range on intervals (owner_id, day, start, "end");
+create index idx_intervals_end on intervals (owner_id, day, "end");
+create index idx_intervals_type on intervals (owner_id, day, type);
+
+comment on table intervals is 'Временные интервалы активностей, секционированные по месяцам дня';
+comment on column intervals.id is 'Уникальный идентификатор';
+comment on column intervals.owner_id is 'Владелец таймлайна';
+comment on column intervals.day is 'День, к которому относится интервал';
+comment on column intervals.start is 'Начало интервала в секундах (0-86400)';
+comment on column intervals."end" is 'Конец интервала в секундах (0-86400)';
+comment on column intervals.type is 'Тип активности: WORK или BREAK';
+comment on column intervals.created_at is 'Время создания записи';
+comment on function ensure_intervals_partition(date) is
+    'Создаёт месячную секцию intervals с ограничением непересечения в пределах владельца и дня';
@@ -0,0 +1,21 @@
+--liquibase formatted sql
+
+--changeset diszexuf:4
+create or replace function uuid_generate_v7() returns uuid
+    language plpgsql volatile as
+$$
+declare
+    unix_ts_ms bytea := substring(int8send(floor(extract(epoch from clock_timestamp()) * 1000)::bigint) from 3);
+    uuid_bytes bytea := overlay(uuid_send(gen_random_uuid()) placing unix_ts_ms from 1 for 6);
+begin
+    uuid_bytes := set_byte(uuid_bytes, 6, (b'0111' || get_byte(uuid_bytes, 6)::bit(4))::bit(8)::int);
+    return encode(uuid_bytes, 'hex')::uuid;
+end;
+$$;
+
+alter table intervals
+    alter column id set default uuid_generate_v7();
+
+comment on function uuid_generate_v7() is
+    'UUID версии 7: первые 48 бит — время в миллисекундах, поэтому новые ключи попадают в конец индекса';
+comment on column intervals.id is 'Уникальный идентификатор (UUIDv7, упорядочен по времени создания)';
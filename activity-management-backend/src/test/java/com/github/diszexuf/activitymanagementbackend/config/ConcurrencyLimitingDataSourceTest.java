@@ -0,0 +1,80 @@
+package com.github.diszexuf.activitymanagementbackend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitingDataSource Unit Tests")
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 1, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть разрешение при закрытии подключения")
+    void getConnection_AfterClose_ReleasesPermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        Connection first = dataSource.getConnection();
+        assertEquals(0, dataSource.availablePermits());
+
+        first.close();
+        first.close();
+
+        assertEquals(1, dataSource.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Должен отказать по таймауту когда все подключения заняты")
+    void getConnection_WhenExhausted_ThrowsAfterTimeout() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Должен вернуть разрешение если пул не выдал подключение")
+    void getConnection_WhenTargetFails_ReleasesPermit() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool timeout"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(1, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Должен передавать остальные вызовы исходному подключению")
+    void getConnection_DelegatesOtherCalls() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        assertTrue(dataSource.getConnection().getAutoCommit());
+    }
+}
@@ -2,24 +2,44 @@ package com.github.diszexuf.activitymanagementbackend.controller;
 
 import com.github.diszexuf.activitymanagementbackend.exception.IntervalOverlapException;
 import com.github.diszexuf.activitymanagementbackend.exception.InvalidIntervalException;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import com.github.diszexuf.activitymanagementbackend.service.IntervalDatasetVersion;
+import com.github.diszexuf.activitymanagementbackend.service.IntervalPageCache;
 import com.github.diszexuf.activitymanagementbackend.service.IntervalService;
+import com.github.diszexuf.activitymanagementbackend.service.TimelineResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openapitools.model.CreateIntervalRequest;
+import org.openapitools.model.Gap;
+import org.openapitools.model.GapsResponse;
 import org.openapitools.model.IntervalResponse;
 import org.openapitools.model.IntervalsListResponse;
+import org.openapitools.model.Segment;
+import org.openapitools.model.TimelineResponse;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,9 +51,21 @@ import static org.mockito.Mockito.*;
 @DisplayName("IntervalController Unit Tests")
 class IntervalControllerTest {
 
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 15);
+
     @Mock
     private IntervalService intervalService;
 
+    @Mock
+    private IntervalDatasetVersion datasetVersion;
+
+    @Spy
+    private TimelineResolver timelineResolver = new TimelineResolver(
+            Clock.fixed(DAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC), Period.ofYears(1), Period.ofYears(1));
+
+    @Spy
+    private IntervalPageCache pageCache = new IntervalPageCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
     @InjectMocks
     private IntervalController intervalController;
 
@@ -98,6 +130,51 @@ class IntervalControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("createIntervalsBatch - Пакетное создание")
+    class CreateIntervalsBatchTests {
+
+        @Test
+        @DisplayName("Должен создать пакет интервалов и вернуть статус CREATED")
+        void createIntervalsBatch_WhenValidRequest_ReturnsCreatedStatus() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(2000, 3000, org.openapitools.model.ActivityType.BREAK)
+            );
+            List<IntervalResponse> expectedResponse = List.of(
+                    createResponse("id1", 1000, 2000),
+                    createResponse("id2", 2000, 3000)
+            );
+
+            when(intervalService.createIntervals(requests)).thenReturn(expectedResponse);
+
+            ResponseEntity<List<IntervalResponse>> response = intervalController.createIntervalsBatch(requests);
+
+            assertEquals(HttpStatus.CREATED, response.getStatusCode());
+            assertEquals(expectedResponse, response.getBody());
+            verify(intervalService).createIntervals(requests);
+        }
+
+        @Test
+        @DisplayName("Должен пробросить IntervalOverlapException с индексами конфликтующих элементов")
+        void createIntervalsBatch_WhenOverlap_ThrowsIntervalOverlapException() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(1500, 3000, org.openapitools.model.ActivityType.BREAK)
+            );
+
+            when(intervalService.createIntervals(requests))
+                    .thenThrow(new IntervalOverlapException("Интервалы пакета пересекаются", List.of(0, 1)));
+
+            IntervalOverlapException exception = assertThrows(
+                    IntervalOverlapException.class,
+                    () -> intervalController.createIntervalsBatch(requests)
+            );
+
+            assertEquals(List.of(0, 1), exception.getConflictingItems());
+        }
+    }
+
     @Nested
     @DisplayName("createInterval - Обработка исключений")
     class CreateIntervalExceptionTests {
@@ -150,16 +227,16 @@ class IntervalControllerTest {
 
             IntervalsListResponse expectedResponse = createListResponse(2);
 
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(expectedResponse);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(expectedResponse);
 
-            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(page, size, sort);
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
             assertNotNull(response);
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
             assertEquals(2, response.getBody().getIntervals().size());
 
-            verify(intervalService).getAllIntervals(any(Pageable.class));
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true));
         }
 
         @Test
@@ -171,18 +248,18 @@ class IntervalControllerTest {
 
             IntervalsListResponse expectedResponse = createListResponse(5);
 
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(expectedResponse);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(expectedResponse);
 
-            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(page, size, sort);
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getPageNumber() == 1 &&
                     pageable.getPageSize() == 5 &&
                     pageable.getSort().getOrderFor("start").getDirection() == Sort.Direction.ASC
-            ));
+            ), eq(true));
         }
 
         @Test
@@ -196,9 +273,9 @@ class IntervalControllerTest {
             emptyResponse.setIntervals(List.of());
             emptyResponse.setTotalElements(0L);
 
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(emptyResponse);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(emptyResponse);
 
-            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(page, size, sort);
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
             assertEquals(HttpStatus.OK, response.getStatusCode());
             assertNotNull(response.getBody());
@@ -207,6 +284,261 @@ class IntervalControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("getAllIntervals - Постраничный обход по курсору")
+    class GetAllIntervalsCursorTests {
+
+        @Test
+        @DisplayName("Должен использовать курсор вместо смещения когда он указан")
+        void getAllIntervals_WithCursor_UsesKeysetPagination() {
+            IntervalsListResponse expectedResponse = createListResponse(2);
+
+            when(intervalService.getIntervalsAfter(any(TimelineKey.class), eq("cursor"), eq(10), eq(true))).thenReturn(expectedResponse);
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(5, 10, "start,asc", "cursor", true, null, null, null, null, null, null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(expectedResponse, response.getBody());
+            verify(intervalService).getIntervalsAfter(any(TimelineKey.class), eq("cursor"), eq(10), eq(true));
+            verify(intervalService, never()).getAllIntervals(any(TimelineKey.class), any(Pageable.class), anyBoolean());
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllIntervals - Запросы по диапазону")
+    class GetAllIntervalsRangeTests {
+
+        @Test
+        @DisplayName("Должен искать интервал по секунде, игнорируя остальные параметры")
+        void getAllIntervals_WithCoveringSecond_DelegatesToCoveringQuery() {
+            IntervalsListResponse expectedResponse = createListResponse(1);
+
+            when(intervalService.getIntervalsCovering(any(TimelineKey.class), eq(1500))).thenReturn(expectedResponse);
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(0, 10, "start,asc", "cursor", true, 1500, 0, 100, null, null, null);
+
+            assertEquals(expectedResponse, response.getBody());
+            verify(intervalService, never()).getIntervalsAfter(any(TimelineKey.class), anyString(), anyInt(), anyBoolean());
+            verify(intervalService, never()).getAllIntervals(any(TimelineKey.class), any(Pageable.class), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("Должен дополнить окно границами дня когда указана только одна граница")
+        void getAllIntervals_WithOverlapsFromOnly_UsesEndOfDay() {
+            IntervalsListResponse expectedResponse = createListResponse(2);
+
+            when(intervalService.getIntervalsIntersecting(any(TimelineKey.class), eq(3600), eq(86400), any(Pageable.class), eq(false)))
+                    .thenReturn(expectedResponse);
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(1, 20, "start,asc", null, false, null, 3600, null, null, null, null);
+
+            assertEquals(expectedResponse, response.getBody());
+            verify(intervalService).getIntervalsIntersecting(any(TimelineKey.class), eq(3600), eq(86400), argThat(pageable ->
+                    pageable.getPageNumber() == 1 && pageable.getPageSize() == 20), eq(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllIntervals - Условные запросы")
+    class GetAllIntervalsETagTests {
+
+        @Test
+        @DisplayName("Должен вернуть ETag вместе со списком")
+        void getAllIntervals_ReturnsETag() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotNull(response.getHeaders().getETag());
+        }
+
+        @Test
+        @DisplayName("Должен вернуть 304 без обращения к сервису если версия не изменилась")
+        void getAllIntervals_WithMatchingETag_ReturnsNotModified() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+            String eTag = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null)
+                    .getHeaders().getETag();
+            clearInvocations(intervalService);
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, eTag);
+
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            assertNull(response.getBody());
+            verifyNoInteractions(intervalService);
+        }
+
+        @Test
+        @DisplayName("Должен вернуть новые данные после изменения версии")
+        void getAllIntervals_AfterVersionChange_ReturnsBody() {
+            when(datasetVersion.current()).thenReturn("1.5", "1.6");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+            String eTag = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null)
+                    .getHeaders().getETag();
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, eTag);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertNotEquals(eTag, response.getHeaders().getETag());
+        }
+
+        @Test
+        @DisplayName("ETag должен зависеть от параметров страницы")
+        void getAllIntervals_ForDifferentPage_ReturnsDifferentETag() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            String firstPage = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null)
+                    .getHeaders().getETag();
+            String secondPage = intervalController.getAllIntervals(1, 10, "start,asc", null, true, null, null, null, null, null, null)
+                    .getHeaders().getETag();
+
+            assertNotEquals(firstPage, secondPage);
+        }
+
+        @Test
+        @DisplayName("Должен возвращать разные ETag для разных таймлайнов")
+        void getAllIntervals_ForDifferentTimeline_ReturnsDifferentETag() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            String alice = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, DAY, "alice", null)
+                    .getHeaders().getETag();
+            String bob = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, DAY, "bob", null)
+                    .getHeaders().getETag();
+
+            assertNotEquals(alice, bob);
+        }
+
+        @Test
+        @DisplayName("ETag должен зависеть от формата ответа, а ответ - сообщать Vary: Accept")
+        void getAllIntervals_ForDifferentAccept_ReturnsDifferentETag() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            ResponseEntity<IntervalsListResponse> json = getAllIntervalsAccepting("application/json");
+            ResponseEntity<IntervalsListResponse> cbor = getAllIntervalsAccepting("application/cbor");
+
+            assertNotEquals(json.getHeaders().getETag(), cbor.getHeaders().getETag());
+            assertEquals(List.of("Accept"), json.getHeaders().getVary());
+        }
+
+        @Test
+        @DisplayName("Должен выбрать формат по Accept с учетом q")
+        void representation_SelectsByAcceptHeader() {
+            assertEquals(MediaType.APPLICATION_JSON, intervalController.representation(null));
+            assertEquals(MediaType.APPLICATION_JSON, intervalController.representation("*/*"));
+            assertEquals(MediaType.APPLICATION_CBOR, intervalController.representation("application/cbor"));
+            assertEquals(MediaType.APPLICATION_CBOR,
+                    intervalController.representation("application/json;q=0.5, application/cbor"));
+            assertEquals(new MediaType("application", "x-jackson-smile"),
+                    intervalController.representation("application/x-jackson-smile, */*;q=0.1"));
+        }
+
+        private ResponseEntity<IntervalsListResponse> getAllIntervalsAccepting(String accept) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            try {
+                return intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null);
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllIntervals - Кэш страниц")
+    class GetAllIntervalsPageCacheTests {
+
+        @Test
+        @DisplayName("Повторный запрос той же страницы не должен обращаться к сервису")
+        void getAllIntervals_ForSamePageAndVersion_LoadsOnce() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            IntervalsListResponse first = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null).getBody();
+            IntervalsListResponse second = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null).getBody();
+
+            assertSame(first, second);
+            verify(intervalService, times(1)).getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true));
+        }
+
+        @Test
+        @DisplayName("Должен перечитать страницу после изменения версии")
+        void getAllIntervals_AfterVersionChange_ReloadsPage() {
+            when(datasetVersion.current()).thenReturn("1.5", "1.6");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null);
+            intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null);
+
+            verify(intervalService, times(2)).getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true));
+        }
+
+        @Test
+        @DisplayName("Должен загружать разные страницы независимо")
+        void getAllIntervals_ForDifferentPages_LoadsEach() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(1));
+
+            intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null);
+            intervalController.getAllIntervals(0, 10, "start,desc", null, true, null, null, null, null, null, null);
+
+            verify(intervalService, times(2)).getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true));
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllIntervals - Таймлайн")
+    class GetAllIntervalsTimelineTests {
+
+        @Test
+        @DisplayName("Должен передать в сервис владельца и день из запроса")
+        void getAllIntervals_WithOwnerAndDay_PassesTimelineToService() {
+            IntervalsListResponse expectedResponse = createListResponse(1);
+            when(intervalService.getAllIntervals(eq(new TimelineKey("alice", DAY)), any(Pageable.class), eq(true)))
+                    .thenReturn(expectedResponse);
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, DAY, "alice", null);
+
+            assertEquals(expectedResponse, response.getBody());
+        }
+
+        @Test
+        @DisplayName("Должен использовать владельца по умолчанию и текущий день, если они не указаны")
+        void getAllIntervals_WithoutOwnerAndDay_UsesDefaults() {
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(createListResponse(0));
+
+            intervalController.getAllIntervals(0, 10, "start,asc", null, true, null, null, null, null, null, null);
+
+            verify(intervalService).getAllIntervals(argThat(timeline ->
+                    TimelineKey.DEFAULT_OWNER.equals(timeline.ownerId()) && DAY.equals(timeline.day())), any(Pageable.class), eq(true));
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllIntervals - Общее количество")
+    class GetAllIntervalsTotalTests {
+
+        @Test
+        @DisplayName("Должен передать в сервис отказ от подсчета общего количества")
+        void getAllIntervals_WithoutTotal_PassesFlagToService() {
+            IntervalsListResponse expectedResponse = createListResponse(2);
+            expectedResponse.setTotalElements(null);
+
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(false))).thenReturn(expectedResponse);
+
+            ResponseEntity<IntervalsListResponse> response = intervalController.getAllIntervals(0, 10, "start,asc", null, false, null, null, null, null, null, null);
+
+            assertNotNull(response.getBody());
+            assertNull(response.getBody().getTotalElements());
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(false));
+        }
+    }
+
     @Nested
     @DisplayName("getAllIntervals - Тестирование сортировки")
     class GetAllIntervalsSortTests {
@@ -219,14 +551,14 @@ class IntervalControllerTest {
             String sort = "start,asc";
 
             IntervalsListResponse response = createListResponse(2);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getSort().getOrderFor("start") != null &&
                     pageable.getSort().getOrderFor("start").getDirection() == Sort.Direction.ASC
-            ));
+            ), eq(true));
         }
 
         @Test
@@ -237,14 +569,14 @@ class IntervalControllerTest {
             String sort = "start,asc";
 
             IntervalsListResponse response = createListResponse(2);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getSort().getOrderFor("start") != null &&
                     pageable.getSort().getOrderFor("start").getDirection() == Sort.Direction.ASC
-            ));
+            ), eq(true));
         }
 
         @Test
@@ -255,14 +587,14 @@ class IntervalControllerTest {
             String sort = "start,desc";
 
             IntervalsListResponse response = createListResponse(2);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getSort().getOrderFor("start") != null &&
                     pageable.getSort().getOrderFor("start").getDirection() == Sort.Direction.DESC
-            ));
+            ), eq(true));
         }
 
         @Test
@@ -273,14 +605,21 @@ class IntervalControllerTest {
             String sort = "end,asc";
 
             IntervalsListResponse response = createListResponse(2);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getSort().getOrderFor("end") != null &&
                     pageable.getSort().getOrderFor("end").getDirection() == Sort.Direction.ASC
-            ));
+            ), eq(true));
+        }
+
+        @Test
+        @DisplayName("Должен добавить id вторым ключом сортировки в том же направлении")
+        void parseSort_AddsIdTieBreaker() {
+            assertEquals(Sort.by(Sort.Direction.DESC, "type").and(Sort.by(Sort.Direction.DESC, "id")),
+                    intervalController.parseSort("type,desc"));
         }
 
         @Test
@@ -291,14 +630,14 @@ class IntervalControllerTest {
             String sort = "start,unknown";
 
             IntervalsListResponse response = createListResponse(2);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getSort().getOrderFor("start") != null &&
                     pageable.getSort().getOrderFor("start").getDirection() == Sort.Direction.ASC
-            ));
+            ), eq(true));
         }
     }
 
@@ -314,14 +653,14 @@ class IntervalControllerTest {
             String sort = "start, asc";
 
             IntervalsListResponse response = createListResponse(20);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getPageNumber() == 0 &&
                     pageable.getPageSize() == 20
-            ));
+            ), eq(true));
         }
 
         @Test
@@ -332,15 +671,71 @@ class IntervalControllerTest {
             String sort = "start,desc";
 
             IntervalsListResponse response = createListResponse(15);
-            when(intervalService.getAllIntervals(any(Pageable.class))).thenReturn(response);
+            when(intervalService.getAllIntervals(any(TimelineKey.class), any(Pageable.class), eq(true))).thenReturn(response);
 
-            intervalController.getAllIntervals(page, size, sort);
+            intervalController.getAllIntervals(page, size, sort, null, true, null, null, null, null, null, null);
 
-            verify(intervalService).getAllIntervals(argThat(pageable ->
+            verify(intervalService).getAllIntervals(any(TimelineKey.class), argThat(pageable ->
                     pageable.getPageNumber() == 2 &&
                     pageable.getPageSize() == 15 &&
                     pageable.getSort().getOrderFor("start").getDirection() == Sort.Direction.DESC
-            ));
+            ), eq(true));
+        }
+    }
+
+    @Nested
+    @DisplayName("getGaps - Свободные промежутки")
+    class GetGapsTests {
+
+        @Test
+        @DisplayName("Должен вернуть свободные промежутки из сервиса")
+        void getGaps_ReturnsOkStatus() {
+            GapsResponse expectedResponse = new GapsResponse().gaps(List.of(new Gap().start(0).end(1000)));
+
+            when(intervalService.getGaps(new TimelineKey("alice", DAY), 0, 86400, 60)).thenReturn(expectedResponse);
+
+            ResponseEntity<GapsResponse> response = intervalController.getGaps(0, 86400, 60, DAY, "alice");
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(expectedResponse, response.getBody());
+            verify(intervalService).getGaps(new TimelineKey("alice", DAY), 0, 86400, 60);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTimeline - Занятость суток")
+    class GetTimelineTests {
+
+        @Test
+        @DisplayName("Должен вернуть отрезки таймлайна вместе с ETag")
+        void getTimeline_ReturnsSegmentsWithETag() {
+            TimelineResponse expectedResponse = new TimelineResponse()
+                    .ownerId("alice")
+                    .day(DAY)
+                    .segments(List.of(new Segment().start(0).end(1000).type(org.openapitools.model.ActivityType.WORK)));
+
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getTimeline(new TimelineKey("alice", DAY))).thenReturn(expectedResponse);
+
+            ResponseEntity<TimelineResponse> response = intervalController.getTimeline(DAY, "alice", null);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(expectedResponse, response.getBody());
+            assertNotNull(response.getHeaders().getETag());
+        }
+
+        @Test
+        @DisplayName("Должен вернуть 304 без обращения к сервису если версия не изменилась")
+        void getTimeline_WithMatchingETag_ReturnsNotModified() {
+            when(datasetVersion.current()).thenReturn("1.5");
+            when(intervalService.getTimeline(any(TimelineKey.class))).thenReturn(new TimelineResponse());
+            String eTag = intervalController.getTimeline(DAY, "alice", null).getHeaders().getETag();
+            clearInvocations(intervalService);
+
+            ResponseEntity<TimelineResponse> response = intervalController.getTimeline(DAY, "alice", eTag);
+
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            verifyNoInteractions(intervalService);
         }
     }
 
@@ -0,0 +1,241 @@
+package com.github.diszexuf.activitymanagementbackend.load;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Нагрузочный прогон: много потоков одновременно создают интервалы в узком участке суток
+ * и читают список. Запускается задачей {@code ./gradlew loadTest}, параметры задаются
+ * системными свойствами load.*. Тест падает, если в БД оказались пересекающиеся интервалы
+ * или число строк не совпадает с числом успешных созданий.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Нагрузочный прогон создания и чтения интервалов")
+class IntervalLoadTest {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 64);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 5000);
+    private static final int CREATE_PERCENT = Integer.getInteger("load.createPercent", 50);
+    private static final int REGION_START = Integer.getInteger("load.regionStart", 32400);
+    private static final int REGION_SECONDS = Integer.getInteger("load.regionSeconds", 3600);
+    private static final int MAX_DURATION = Integer.getInteger("load.maxDuration", 60);
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("load.virtualThreads");
+
+    private static final Pattern ERROR_CODE = Pattern.compile("\"error\"\\s*:\\s*\"(\\w+)\"");
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, List<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    @DisplayName("Пересечения не должны появляться при конкурентном создании")
+    void concurrentCreatesKeepTimelineFreeOfOverlaps() throws InterruptedException {
+        String baseUrl = "http://localhost:" + environment.getProperty("local.server.port") + "/api/v1/intervals";
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        Semaphore inFlight = new Semaphore(THREADS);
+        double serializationFailuresBefore = counter("intervals.serialization.failures");
+        double retryExhaustedBefore = counter("intervals.retry.exhausted");
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        if (ThreadLocalRandom.current().nextInt(100) < CREATE_PERCENT) {
+                            create(client, baseUrl);
+                        } else {
+                            list(client, baseUrl);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        report(elapsed, (long) (counter("intervals.serialization.failures") - serializationFailuresBefore),
+                (long) (counter("intervals.retry.exhausted") - retryExhaustedBefore));
+
+        Integer overlapping = jdbcTemplate.queryForObject("""
+                select count(*)
+                from intervals a
+                         join intervals b on a.id < b.id and a.owner_id = b.owner_id and a.day = b.day
+                    and int4range(a.start, a."end") && int4range(b.start, b."end")
+                """, Integer.class);
+        Integer stored = jdbcTemplate.queryForObject("select count(*) from intervals", Integer.class);
+        Integer notTimeOrdered = jdbcTemplate.queryForObject(
+                "select count(*) from intervals where substring(id::text, 15, 1) <> '7'", Integer.class);
+
+        assertEquals(0, overlapping, "В БД есть пересекающиеся интервалы");
+        assertEquals(0, notTimeOrdered, "Идентификаторы должны быть UUIDv7");
+        assertEquals(count("create 201"), stored.longValue(), "Число строк не совпадает с числом успешных созданий");
+    }
+
+    private void create(HttpClient client, String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int start = REGION_START + random.nextInt(REGION_SECONDS);
+        int end = Math.min(start + 1 + random.nextInt(MAX_DURATION), 86400);
+        String type = random.nextBoolean() ? "WORK" : "BREAK";
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"start\":" + start + ",\"end\":" + end + ",\"type\":\"" + type + "\"}"))
+                .build();
+        send(client, request, "create");
+    }
+
+    private void list(HttpClient client, String baseUrl) {
+        int page = ThreadLocalRandom.current().nextInt(5);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "?page=" + page + "&size=20&sort=start,asc"))
+                .GET()
+                .build();
+        send(client, request, "list");
+    }
+
+    private void send(HttpClient client, HttpRequest request, String operation) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            record(operation, System.nanoTime() - startedAt);
+
+            String outcome = operation + " " + response.statusCode();
+            Matcher error = ERROR_CODE.matcher(response.body());
+            if (response.statusCode() >= 400 && error.find()) {
+                outcome += " " + error.group(1);
+            }
+            outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        } catch (IOException e) {
+            outcomes.computeIfAbsent(operation + " io-error", key -> new LongAdder()).increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(String operation, long nanos) {
+        latencies.computeIfAbsent(operation, key -> Collections.synchronizedList(new ArrayList<>())).add(nanos);
+    }
+
+    private long count(String outcomePrefix) {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(outcomePrefix))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    private double counter(String name) {
+        Counter counter = meterRegistry.find(name).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    /**
+     * Ошибки сериализации берутся из метрик приложения: клиент видит только те, что не исправил повтор,
+     * и получает на них тот же 503, что и при отказе в соединении, поэтому по ответам их не отличить.
+     */
+    private void report(Duration elapsed, long serializationFailures, long retryExhausted) {
+        StringBuilder report = new StringBuilder()
+                .append("\n=== Нагрузочный прогон ===\n")
+                .append(String.format("потоков: %d, запросов: %d, доля создания: %d%%, участок: [%d, %d)%n",
+                        THREADS, REQUESTS, CREATE_PERCENT, REGION_START, REGION_START + REGION_SECONDS))
+                .append(String.format("потоки сервера: %s%n", VIRTUAL_THREADS ? "виртуальные" : "платформенные"))
+                .append(String.format("время: %d мс, пропускная способность: %.1f запросов/с%n",
+                        elapsed.toMillis(), REQUESTS * 1000.0 / Math.max(1, elapsed.toMillis())));
+
+        latencies.forEach((operation, values) -> {
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            report.append(String.format("%s: n=%d p50=%.2f мс p95=%.2f мс p99=%.2f мс max=%.2f мс%n", operation,
+                    sorted.size(), percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    percentile(sorted, 100)));
+        });
+
+        long creates = count("create");
+        report.append(String.format("доля 409: %.2f%%%n", percent(count("create 409"), creates)))
+                .append(String.format("ошибки сериализации: %d (%.2f%% запросов создания), не исправлены повтором: %d (%.2f%%)%n",
+                        serializationFailures, percent(serializationFailures, creates),
+                        retryExhausted, percent(retryExhausted, creates)))
+                .append(String.format("прочие 5xx: %.2f%%%n",
+                        percent(Math.max(0, count("create 5") - retryExhausted), creates)));
+        outcomes.forEach((outcome, value) -> report.append("  ").append(outcome).append(": ").append(value.sum()).append('\n'));
+
+        System.out.println(report);
+    }
+
+    private static double percentile(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : part * 100.0 / total;
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Не удалось запустить встроенный PostgreSQL", e);
+        }
+    }
+}
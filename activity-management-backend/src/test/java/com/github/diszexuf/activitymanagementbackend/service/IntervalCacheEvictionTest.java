@@ -0,0 +1,57 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntervalCacheEviction Unit Tests")
+class IntervalCacheEvictionTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private jakarta.persistence.Cache jpaCache;
+
+    @Mock
+    private Cache hibernateCache;
+
+    @InjectMocks
+    private IntervalCacheEviction cacheEviction;
+
+    @Test
+    @DisplayName("Должен сбросить кэш запросов после импорта, не трогая кэш сущностей")
+    void onIntervalsImported_EvictsQueryRegionsOnly() {
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(hibernateCache);
+
+        cacheEviction.onIntervalsImported(new IntervalsImportedEvent(10));
+
+        verify(hibernateCache).evictQueryRegions();
+        verify(hibernateCache, never()).evictAllRegions();
+        verify(hibernateCache, never()).evictEntityData();
+    }
+
+    @Test
+    @DisplayName("Сброс должен выполняться раньше остальных слушателей импорта")
+    void onIntervalsImported_RunsBeforeOtherListeners() throws NoSuchMethodException {
+        Order order = IntervalCacheEviction.class
+                .getMethod("onIntervalsImported", IntervalsImportedEvent.class)
+                .getAnnotation(Order.class);
+
+        assertNotNull(order);
+        assertEquals(Ordered.HIGHEST_PRECEDENCE, order.value());
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IntervalChangeFeed Unit Tests")
+class IntervalChangeFeedTest {
+
+    private static final int SUBSCRIBER_BUFFER_SIZE = 256;
+
+    private SseEmitter emitter;
+    private IntervalChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+        feed = spy(new IntervalChangeFeed(mock(IntervalMapper.class), JsonMapper.builder().build()));
+        doReturn(emitter).when(feed).createEmitter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Nested
+    @DisplayName("Доставка событий")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("Должен доставить события подписчику в порядке публикации")
+        void publish_SeveralEvents_DeliversInOrder() throws Exception {
+            List<Long> delivered = new CopyOnWriteArrayList<>();
+            CountDownLatch allDelivered = new CountDownLatch(50);
+            doAnswer(invocation -> {
+                delivered.add(imported(invocation.getArgument(0)));
+                allDelivered.countDown();
+                return null;
+            }).when(emitter).send(anySet());
+            feed.subscribe();
+
+            LongStream.rangeClosed(1, 50).forEach(n -> feed.onIntervalsImported(new IntervalsImportedEvent(n)));
+
+            assertTrue(allDelivered.await(5, TimeUnit.SECONDS));
+            assertEquals(LongStream.rangeClosed(1, 50).boxed().toList(), delivered);
+        }
+
+        @Test
+        @DisplayName("Должен закрыть подписку при переполнении очереди, не блокируя публикацию")
+        void publish_WhenQueueIsFull_DropsSubscriberWithoutBlocking() throws Exception {
+            CountDownLatch sending = new CountDownLatch(1);
+            CountDownLatch releaseSend = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                sending.countDown();
+                releaseSend.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(emitter).send(anySet());
+            feed.subscribe();
+
+            feed.onIntervalsImported(new IntervalsImportedEvent(0));
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+                for (int i = 1; i <= SUBSCRIBER_BUFFER_SIZE; i++) {
+                    feed.onIntervalsImported(new IntervalsImportedEvent(i));
+                }
+                assertEquals(1, feed.subscriberCount());
+
+                feed.onIntervalsImported(new IntervalsImportedEvent(SUBSCRIBER_BUFFER_SIZE + 1));
+            });
+
+            assertEquals(0, feed.subscriberCount());
+            verify(emitter).complete();
+            releaseSend.countDown();
+        }
+    }
+
+    @Nested
+    @DisplayName("Отписка")
+    class UnsubscribeTests {
+
+        @Test
+        @DisplayName("Должен удалить подписчика при завершении соединения")
+        void subscribe_OnCompletion_RemovesSubscriber() {
+            feed.subscribe();
+            ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+            verify(emitter).onCompletion(callback.capture());
+
+            callback.getValue().run();
+
+            assertEquals(0, feed.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("Должен удалить подписчика по таймауту")
+        void subscribe_OnTimeout_RemovesSubscriber() {
+            feed.subscribe();
+            ArgumentCaptor<Runnable> callback = ArgumentCaptor.forClass(Runnable.class);
+            verify(emitter).onTimeout(callback.capture());
+
+            callback.getValue().run();
+
+            assertEquals(0, feed.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("Должен удалить подписчика при ошибке соединения")
+        @SuppressWarnings("unchecked")
+        void subscribe_OnError_RemovesSubscriber() {
+            feed.subscribe();
+            ArgumentCaptor<Consumer<Throwable>> callback = ArgumentCaptor.forClass(Consumer.class);
+            verify(emitter).onError(callback.capture());
+
+            callback.getValue().accept(new IOException("Broken pipe"));
+
+            assertEquals(0, feed.subscriberCount());
+        }
+
+        @Test
+        @DisplayName("Должен закрыть подписку, если отправка завершилась IOException")
+        void publish_WhenSendFails_DropsSubscriber() throws Exception {
+            doThrow(new IOException("Broken pipe")).when(emitter).send(anySet());
+            feed.subscribe();
+
+            feed.onIntervalsImported(new IntervalsImportedEvent(1));
+
+            verify(emitter, timeout(5000)).complete();
+            assertEquals(0, feed.subscriberCount());
+            verify(emitter, times(1)).send(anySet());
+        }
+    }
+
+    private static long imported(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        return event.stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(Long.class::isInstance)
+                .map(Long.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+}
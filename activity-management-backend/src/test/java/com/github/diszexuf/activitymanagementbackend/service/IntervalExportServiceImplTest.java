@@ -0,0 +1,88 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.repository.IntervalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntervalExportServiceImpl Unit Tests")
+class IntervalExportServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 15);
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2026, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private IntervalRepository intervalRepository;
+
+    private IntervalExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new IntervalExportServiceImpl(intervalRepository, new IntervalMapper(), JsonMapper.builder().build());
+    }
+
+    @Test
+    @DisplayName("Должен выгрузить интервалы в CSV с заголовком")
+    void exportIntervals_AsCsv_WritesHeaderAndRows() throws IOException {
+        UUID id = UUID.randomUUID();
+        when(intervalRepository.streamAll()).thenReturn(Stream.of(
+                new IntervalView(id, "alice", DAY, 1000, 2000, ActivityType.WORK, CREATED_AT)
+        ));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportIntervals(FileFormat.CSV, output);
+
+        assertEquals("id,ownerId,day,start,end,type,createdAt\n" + id + ",alice,2026-01-15,1000,2000,WORK,2026-01-01T12:00Z\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Должен выгрузить каждый интервал отдельной строкой JSON")
+    void exportIntervals_AsNdjson_WritesOneObjectPerLine() throws IOException {
+        when(intervalRepository.streamAll()).thenReturn(Stream.of(
+                new IntervalView(UUID.randomUUID(), "alice", DAY, 1000, 2000, ActivityType.WORK, CREATED_AT),
+                new IntervalView(UUID.randomUUID(), "alice", DAY, 3000, 4000, ActivityType.BREAK, CREATED_AT)
+        ));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportIntervals(FileFormat.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"start\":1000"));
+        assertTrue(lines[1].contains("\"type\":\"BREAK\""));
+    }
+
+    @Test
+    @DisplayName("Должен закрыть поток строк после выгрузки")
+    void exportIntervals_ClosesRepositoryStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(intervalRepository.streamAll()).thenReturn(Stream.<IntervalView>empty().onClose(() -> closed.set(true)));
+
+        exportService.exportIntervals(FileFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertTrue(closed.get());
+    }
+}
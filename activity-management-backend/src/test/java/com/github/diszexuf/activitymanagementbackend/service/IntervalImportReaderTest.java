@@ -0,0 +1,155 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidDayException;
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidIntervalException;
+import com.github.diszexuf.activitymanagementbackend.model.FileFormat;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalImportReader Unit Tests")
+class IntervalImportReaderTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 20);
+
+    private final IntervalImportReader reader = new IntervalImportReader(JsonMapper.builder().build(),
+            new TimelineResolver(Clock.fixed(TODAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC),
+                    Period.ofYears(1), Period.ofYears(1)));
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Должен прочитать записи без заголовка в порядке start,end,type")
+        void read_WithoutHeader_UsesDefaultColumns() throws IOException {
+            List<String> records = read(FileFormat.CSV, "1000,2000,WORK\n\n3000,4000,BREAK\n");
+
+            assertEquals(List.of("0:1000-2000:WORK", "1:3000-4000:BREAK"), records);
+        }
+
+        @Test
+        @DisplayName("Должен сопоставить колонки по заголовку, в том числе для файла экспорта")
+        void read_WithExportHeader_MapsColumnsByName() throws IOException {
+            List<String> records = read(FileFormat.CSV, """
+                    id,ownerId,day,start,end,type,createdAt
+                    550e8400-e29b-41d4-a716-446655440000,default,2026-01-01,1000,2000,WORK,2026-01-01T12:00Z
+                    """);
+
+            assertEquals(List.of("0:1000-2000:WORK"), records);
+        }
+
+        @Test
+        @DisplayName("Должен прочитать день и владельца, а при их отсутствии подставить значения по умолчанию")
+        void read_WithDayAndOwner_ResolvesTimeline() throws IOException {
+            List<TimelineKey> timelines = new ArrayList<>();
+            reader.read(FileFormat.CSV, new ByteArrayInputStream("""
+                            1000,2000,WORK,2026-01-15,alice
+                            3000,4000,BREAK
+                            """.getBytes(StandardCharsets.UTF_8)),
+                    (index, timeline, start, end, type) -> timelines.add(timeline));
+
+            assertEquals(new TimelineKey("alice", LocalDate.of(2026, 1, 15)), timelines.get(0));
+            assertEquals(new TimelineKey(TimelineKey.DEFAULT_OWNER, TODAY), timelines.get(1));
+        }
+
+        @Test
+        @DisplayName("Должен отклонить запись с днем вне допустимого диапазона")
+        void read_WithDayOutsideWindow_ThrowsException() {
+            InvalidDayException exception = assertThrows(InvalidDayException.class,
+                    () -> read(FileFormat.CSV, "1000,2000,WORK,2026-01-15\n1000,2000,WORK,0001-01-01\n"));
+
+            assertTrue(exception.getMessage().startsWith("Запись 1:"));
+        }
+
+        @Test
+        @DisplayName("Должен отклонить некорректного владельца")
+        void read_WithInvalidOwner_ThrowsException() {
+            InvalidIntervalException exception = assertThrows(InvalidIntervalException.class,
+                    () -> read(FileFormat.CSV, "1000,2000,WORK,2026-01-15,not valid\n"));
+
+            assertTrue(exception.getMessage().startsWith("Запись 0"));
+        }
+
+        @Test
+        @DisplayName("Должен отклонить заголовок без обязательной колонки")
+        void read_WithIncompleteHeader_ThrowsException() {
+            assertThrows(InvalidIntervalException.class, () -> read(FileFormat.CSV, "start,end\n1000,2000\n"));
+        }
+
+        @Test
+        @DisplayName("Должен указать номер записи с неизвестным типом активности")
+        void read_WithUnknownType_ThrowsExceptionWithIndex() {
+            InvalidIntervalException exception = assertThrows(InvalidIntervalException.class,
+                    () -> read(FileFormat.CSV, "1000,2000,WORK\n3000,4000,SLEEP\n"));
+
+            assertTrue(exception.getMessage().startsWith("Запись 1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Должен прочитать по одному интервалу из каждой строки")
+        void read_Ndjson_ReadsEachLine() throws IOException {
+            List<String> records = read(FileFormat.NDJSON, """
+                    {"start":1000,"end":2000,"type":"WORK"}
+                    {"start":3000,"end":4000,"type":"BREAK"}
+                    """);
+
+            assertEquals(List.of("0:1000-2000:WORK", "1:3000-4000:BREAK"), records);
+        }
+
+        @Test
+        @DisplayName("Должен отклонить некорректный JSON")
+        void read_WithMalformedJson_ThrowsException() {
+            assertThrows(InvalidIntervalException.class, () -> read(FileFormat.NDJSON, "{\"start\":1000,\n"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Валидация записей")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Должен отклонить запись с start >= end")
+        void read_WithStartNotBeforeEnd_ThrowsException() {
+            assertThrows(InvalidIntervalException.class, () -> read(FileFormat.CSV, "2000,2000,WORK\n"));
+        }
+
+        @Test
+        @DisplayName("Должен отклонить запись за пределами суток")
+        void read_OutsideOfDay_ThrowsException() {
+            assertThrows(InvalidIntervalException.class, () -> read(FileFormat.CSV, "86000,90000,WORK\n"));
+        }
+
+        @Test
+        @DisplayName("Должен отклонить запись без обязательных полей")
+        void read_WithMissingFields_ThrowsException() {
+            assertThrows(InvalidIntervalException.class, () -> read(FileFormat.NDJSON, "{\"start\":1000,\"end\":2000}\n"));
+        }
+    }
+
+    private List<String> read(FileFormat format, String content) throws IOException {
+        List<String> records = new ArrayList<>();
+        reader.read(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                (index, timeline, start, end, type) -> records.add(index + ":" + start + "-" + end + ":" + type));
+        return records;
+    }
+}
@@ -0,0 +1,245 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
+import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
+import com.github.diszexuf.activitymanagementbackend.model.DayStatistics;
+import com.github.diszexuf.activitymanagementbackend.model.HourStatistics;
+import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.TimeWindow;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineSegment;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import com.github.diszexuf.activitymanagementbackend.repository.IntervalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntervalOccupancyIndex Unit Tests")
+class IntervalOccupancyIndexTest {
+
+    private static final TimelineKey TIMELINE = new TimelineKey(TimelineKey.DEFAULT_OWNER, LocalDate.of(2026, 1, 15));
+
+    @Mock
+    private IntervalRepository intervalRepository;
+
+    @InjectMocks
+    private IntervalOccupancyIndex occupancyIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(intervalRepository.count()).thenReturn(2L);
+        lenient().when(intervalRepository.findByOwnerIdAndDay(TIMELINE.ownerId(), TIMELINE.day())).thenReturn(List.of(
+                createInterval(1000, 2000, ActivityType.WORK),
+                createInterval(3000, 4000, ActivityType.BREAK)
+        ));
+        occupancyIndex.load();
+    }
+
+    @Test
+    @DisplayName("Должен находить пересечения с загруженными интервалами")
+    void overlaps_WithLoadedIntervals_DetectsOverlap() {
+        assertTrue(overlaps(TIMELINE, 1000, 2000));
+        assertTrue(overlaps(TIMELINE, 1500, 1600));
+        assertTrue(overlaps(TIMELINE, 500, 1001));
+        assertTrue(overlaps(TIMELINE, 1999, 3001));
+        assertTrue(overlaps(TIMELINE, 0, 86400));
+    }
+
+    @Test
+    @DisplayName("Не должен считать пересечением касание границ")
+    void overlaps_TouchingBoundaries_ReturnsFalse() {
+        assertFalse(overlaps(TIMELINE, 0, 1000));
+        assertFalse(overlaps(TIMELINE, 2000, 3000));
+        assertFalse(overlaps(TIMELINE, 4000, 86400));
+    }
+
+    @Test
+    @DisplayName("Должен возвращать пересекающиеся интервалы по возрастанию начала с учетом лимита")
+    void findOverlapping_ReturnsConflictsInOrderUpToLimit() {
+        assertEquals(List.of(1000, 3000), occupancyIndex.findOverlapping(TIMELINE, 0, 86400, 10).stream()
+                .map(Interval::getStart)
+                .toList());
+        assertEquals(List.of(1000), occupancyIndex.findOverlapping(TIMELINE, 0, 86400, 1).stream()
+                .map(Interval::getStart)
+                .toList());
+        assertEquals(List.of(3000), occupancyIndex.findOverlapping(TIMELINE, 2500, 3500, 10).stream()
+                .map(Interval::getStart)
+                .toList());
+        assertTrue(occupancyIndex.findOverlapping(TIMELINE, 2000, 3000, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Не должен загружать таймлайн из БД при поиске только по памяти")
+    void findLoadedOverlapping_ForTimelineNotInMemory_ReturnsEmptyWithoutQuery() {
+        assertTrue(occupancyIndex.findLoadedOverlapping(TIMELINE, 0, 86400, 10).isEmpty());
+        verify(intervalRepository, never()).findByOwnerIdAndDay(any(), any());
+
+        occupancyIndex.findOverlapping(TIMELINE, 0, 1, 10);
+
+        assertEquals(List.of(1000, 3000), occupancyIndex.findLoadedOverlapping(TIMELINE, 0, 86400, 10).stream()
+                .map(Interval::getStart)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Должен учитывать интервалы, созданные после загрузки")
+    void onIntervalCreated_AddsIntervalToIndex() {
+        assertFalse(overlaps(TIMELINE, 5000, 6000));
+
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(createInterval(5500, 7000, ActivityType.WORK)));
+
+        assertTrue(overlaps(TIMELINE, 5000, 6000));
+        assertFalse(overlaps(TIMELINE, 7000, 8000));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть свободные промежутки между интервалами")
+    void findGaps_ReturnsFreeWindowsInOrder() {
+        assertEquals(List.of(
+                new TimeWindow(0, 1000),
+                new TimeWindow(2000, 3000),
+                new TimeWindow(4000, 86400)
+        ), occupancyIndex.findGaps(TIMELINE, 0, 86400, 1));
+    }
+
+    @Test
+    @DisplayName("Должен обрезать промежутки по границам окна и учитывать интервал, начатый до окна")
+    void findGaps_WithinWindow_ClipsToBounds() {
+        assertEquals(List.of(
+                new TimeWindow(2000, 3000),
+                new TimeWindow(4000, 5000)
+        ), occupancyIndex.findGaps(TIMELINE, 1500, 5000, 1));
+    }
+
+    @Test
+    @DisplayName("Должен отбросить промежутки короче минимальной длительности")
+    void findGaps_WithMinDuration_SkipsShortGaps() {
+        assertEquals(List.of(new TimeWindow(4000, 86400)), occupancyIndex.findGaps(TIMELINE, 0, 86400, 1001));
+    }
+
+    @Test
+    @DisplayName("Должен вернуть пустой список для пустого или занятого окна")
+    void findGaps_WhenWindowEmptyOrOccupied_ReturnsEmptyList() {
+        assertTrue(occupancyIndex.findGaps(TIMELINE, 5000, 5000, 1).isEmpty());
+        assertTrue(occupancyIndex.findGaps(TIMELINE, 1200, 1800, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Должен считать секунды по типам активности и часам")
+    void statistics_AggregatesSecondsByTypeAndHour() {
+        assertEquals(2, occupancyIndex.count(TIMELINE));
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(createInterval(7000, 11000, ActivityType.WORK)));
+
+        DayStatistics statistics = occupancyIndex.statistics(TIMELINE);
+
+        assertEquals(5000, statistics.workSeconds());
+        assertEquals(1000, statistics.breakSeconds());
+        assertEquals(86400 - 6000, statistics.freeSeconds());
+        assertEquals(24, statistics.hours().size());
+        assertEquals(new HourStatistics(0, 1000, 600, 2000), statistics.hours().get(0));
+        assertEquals(new HourStatistics(1, 200, 400, 3000), statistics.hours().get(1));
+        assertEquals(new HourStatistics(2, 3600, 0, 0), statistics.hours().get(2));
+        assertEquals(new HourStatistics(3, 200, 0, 3400), statistics.hours().get(3));
+    }
+
+    @Test
+    @DisplayName("Не должен учитывать повторно уже известный интервал")
+    void statistics_WhenIntervalAlreadyKnown_DoesNotCountTwice() {
+        assertEquals(2, occupancyIndex.count(TIMELINE));
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(createInterval(1000, 2000, ActivityType.WORK)));
+
+        assertEquals(1000, occupancyIndex.statistics(TIMELINE).workSeconds());
+        assertEquals(2, occupancyIndex.count(TIMELINE));
+    }
+
+    @Test
+    @DisplayName("Должен склеивать идущие встык интервалы одного типа в один отрезок")
+    void segments_MergesAdjacentIntervalsOfSameType() {
+        assertEquals(2, occupancyIndex.count(TIMELINE));
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(createInterval(2000, 2500, ActivityType.WORK)));
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(createInterval(2500, 3000, ActivityType.BREAK)));
+
+        assertEquals(List.of(
+                new TimelineSegment(1000, 2500, ActivityType.WORK),
+                new TimelineSegment(2500, 4000, ActivityType.BREAK)
+        ), occupancyIndex.segments(TIMELINE));
+    }
+
+    @Test
+    @DisplayName("Должен перестроить отрезки после добавления интервала")
+    void segments_AfterCreated_ReflectsNewInterval() {
+        assertEquals(List.of(
+                new TimelineSegment(1000, 2000, ActivityType.WORK),
+                new TimelineSegment(3000, 4000, ActivityType.BREAK)
+        ), occupancyIndex.segments(TIMELINE));
+
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(createInterval(5000, 6000, ActivityType.WORK)));
+
+        assertEquals(new TimelineSegment(5000, 6000, ActivityType.WORK), occupancyIndex.segments(TIMELINE).getLast());
+        assertEquals(3, occupancyIndex.segments(TIMELINE).size());
+    }
+
+    @Test
+    @DisplayName("Должен загружать таймлайн из БД один раз при первом обращении")
+    void overlaps_LoadsTimelineOnceOnFirstAccess() {
+        overlaps(TIMELINE, 0, 10);
+        occupancyIndex.findGaps(TIMELINE, 0, 86400, 1);
+        occupancyIndex.statistics(TIMELINE);
+
+        verify(intervalRepository, times(1)).findByOwnerIdAndDay(TIMELINE.ownerId(), TIMELINE.day());
+    }
+
+    @Test
+    @DisplayName("Не должен находить пересечения с интервалами другого таймлайна")
+    void overlaps_WithOtherTimeline_IgnoresForeignIntervals() {
+        TimelineKey other = new TimelineKey("alice", TIMELINE.day());
+        when(intervalRepository.findByOwnerIdAndDay("alice", TIMELINE.day())).thenReturn(List.of());
+
+        assertFalse(overlaps(other, 1000, 2000));
+        assertEquals(0, occupancyIndex.count(other));
+        assertTrue(overlaps(TIMELINE, 1000, 2000));
+    }
+
+    @Test
+    @DisplayName("Должен учитывать созданные интервалы в общем количестве")
+    void total_CountsCreatedIntervals() {
+        occupancyIndex.onIntervalCreated(new IntervalCreatedEvent(
+                createInterval(new TimelineKey("alice", TIMELINE.day()), 0, 100, ActivityType.WORK)));
+
+        assertEquals(3, occupancyIndex.total());
+        verify(intervalRepository, never()).findByOwnerIdAndDay("alice", TIMELINE.day());
+    }
+
+    private boolean overlaps(TimelineKey timeline, int start, int end) {
+        return !occupancyIndex.findOverlapping(timeline, start, end, 1).isEmpty();
+    }
+
+    private Interval createInterval(Integer start, Integer end, ActivityType type) {
+        return createInterval(TIMELINE, start, end, type);
+    }
+
+    private Interval createInterval(TimelineKey timeline, Integer start, Integer end, ActivityType type) {
+        Interval interval = new Interval();
+        interval.setId(UUID.randomUUID());
+        interval.setOwnerId(timeline.ownerId());
+        interval.setDay(timeline.day());
+        interval.setStart(start);
+        interval.setEnd(end);
+        interval.setType(type);
+        interval.setCreatedAt(OffsetDateTime.now());
+        return interval;
+    }
+}
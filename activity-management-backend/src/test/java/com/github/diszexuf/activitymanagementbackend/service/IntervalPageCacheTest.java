@@ -0,0 +1,116 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.event.IntervalsImportedEvent;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openapitools.model.IntervalsListResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalPageCache Unit Tests")
+class IntervalPageCacheTest {
+
+    private static final TimelineKey TIMELINE = new TimelineKey("default", LocalDate.of(2026, 1, 15));
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    private final IntervalPageCache pageCache = new IntervalPageCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("Одновременные промахи по одной странице должны выполнить одну загрузку")
+    void get_WithConcurrentMisses_LoadsOnce() throws Exception {
+        int clients = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        IntervalsListResponse expected = new IntervalsListResponse();
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            Future<IntervalsListResponse> leader = executor.submit(() -> pageCache.get("1.0", TIMELINE, PAGE, true, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return expected;
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            Future<?>[] followers = new Future<?>[clients - 1];
+            for (int i = 0; i < followers.length; i++) {
+                followers[i] = executor.submit(() -> pageCache.get("1.0", TIMELINE, PAGE, true, () -> {
+                    loads.incrementAndGet();
+                    return new IntervalsListResponse();
+                }));
+            }
+            releaseLoader.countDown();
+
+            assertSame(expected, leader.get(5, TimeUnit.SECONDS));
+            for (Future<?> follower : followers) {
+                assertSame(expected, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Должен загрузить страницу заново для новой версии данных")
+    void get_WithNewVersion_LoadsAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        pageCache.get("1.0", TIMELINE, PAGE, true, () -> response(loads));
+        pageCache.get("1.0", TIMELINE, PAGE, true, () -> response(loads));
+        pageCache.get("1.1", TIMELINE, PAGE, true, () -> response(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Не должен кэшировать неудачную загрузку")
+    void get_WhenLoaderFails_DoesNotCacheFailure() {
+        assertThrows(IllegalStateException.class, () -> pageCache.get("1.0", TIMELINE, PAGE, true, () -> {
+            throw new IllegalStateException("БД недоступна");
+        }));
+
+        IntervalsListResponse expected = new IntervalsListResponse();
+        assertSame(expected, pageCache.get("1.0", TIMELINE, PAGE, true, () -> expected));
+    }
+
+    @Test
+    @DisplayName("Должен сбросить страницы после импорта")
+    void onIntervalsImported_InvalidatesPages() {
+        AtomicInteger loads = new AtomicInteger();
+        pageCache.get("1.0", TIMELINE, PAGE, true, () -> response(loads));
+
+        pageCache.onIntervalsImported(new IntervalsImportedEvent(10));
+        pageCache.get("1.0", TIMELINE, PAGE, true, () -> response(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    private IntervalsListResponse response(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new IntervalsListResponse();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IntervalPartitions Unit Tests")
+class IntervalPartitionsTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final IntervalPartitions partitions = new IntervalPartitions(jdbcTemplate, new TimelineResolver(
+            Clock.fixed(Instant.parse("2026-01-15T12:00:00Z"), ZoneOffset.UTC), Period.ofDays(30), Period.ofMonths(2)));
+
+    @Test
+    @DisplayName("Должен подготовить секции каждого месяца допустимого диапазона записи")
+    void ensureWritableMonths_CreatesPartitionPerMonthOfWindow() {
+        partitions.ensureWritableMonths();
+
+        for (LocalDate month : new LocalDate[]{
+                LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1)}) {
+            verify(jdbcTemplate).queryForObject(anyString(), eq(String.class), eq(month));
+        }
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+}
@@ -1,27 +1,41 @@
 package com.github.diszexuf.activitymanagementbackend.service;
 
+import com.github.diszexuf.activitymanagementbackend.event.IntervalCreatedEvent;
 import com.github.diszexuf.activitymanagementbackend.exception.IntervalOverlapException;
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidCursorException;
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidDayException;
 import com.github.diszexuf.activitymanagementbackend.exception.InvalidIntervalException;
 import com.github.diszexuf.activitymanagementbackend.mapper.IntervalMapper;
 import com.github.diszexuf.activitymanagementbackend.model.ActivityType;
 import com.github.diszexuf.activitymanagementbackend.model.Interval;
+import com.github.diszexuf.activitymanagementbackend.model.IntervalView;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
 import com.github.diszexuf.activitymanagementbackend.repository.IntervalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openapitools.model.CreateIntervalRequest;
 import org.openapitools.model.IntervalResponse;
 import org.openapitools.model.IntervalsListResponse;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -29,18 +43,39 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("IntervalService Unit Tests")
 class IntervalServiceImplTest {
 
+    private static final String OWNER = TimelineKey.DEFAULT_OWNER;
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 15);
+    private static final TimelineKey TIMELINE = new TimelineKey(OWNER, DAY);
+
     @Mock
     private IntervalRepository intervalRepository;
 
     @Mock
     private IntervalMapper intervalMapper;
 
+    @Mock
+    private IntervalOccupancyIndex occupancyIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TimelineResolver timelineResolver = new TimelineResolver(
+            Clock.fixed(DAY.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC), Period.ofYears(1), Period.ofYears(1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private IntervalMetrics metrics = new IntervalMetrics(meterRegistry, mock(IntervalOccupancyIndex.class));
+
     @InjectMocks
     private IntervalServiceImpl intervalService;
 
@@ -56,8 +91,7 @@ class IntervalServiceImplTest {
             Interval savedInterval = createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK);
             IntervalResponse expectedResponse = createResponse("test-id", 1000, 2000);
 
-            when(intervalRepository.existsOverlapping(1000, 2000)).thenReturn(false);
-            when(intervalRepository.save(any(Interval.class))).thenReturn(savedInterval);
+            when(intervalRepository.saveAndFlush(any(Interval.class))).thenReturn(savedInterval);
             when(intervalMapper.mapToDto(savedInterval)).thenReturn(expectedResponse);
 
             IntervalResponse result = intervalService.createInterval(request);
@@ -67,24 +101,74 @@ class IntervalServiceImplTest {
             assertEquals(1000, result.getStart());
             assertEquals(2000, result.getEnd());
 
-            verify(intervalRepository).existsOverlapping(1000, 2000);
-            verify(intervalRepository).save(any(Interval.class));
+            verify(occupancyIndex).findOverlapping(TIMELINE, 1000, 2000, IntervalServiceImpl.MAX_CONFLICTS);
+            verify(intervalRepository).saveAndFlush(any(Interval.class));
             verify(intervalMapper).mapToDto(savedInterval);
         }
 
+        @Test
+        @DisplayName("Должен сохранить интервал в таймлайне владельца и дня")
+        void createInterval_WithOwnerAndDay_SavesIntoTimeline() {
+            LocalDate day = LocalDate.of(2026, 3, 1);
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK)
+                    .ownerId("alice")
+                    .day(day);
+            Interval savedInterval = createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any(Interval.class))).thenReturn(savedInterval);
+            when(intervalMapper.mapToDto(savedInterval)).thenReturn(createResponse("id", 1000, 2000));
+
+            intervalService.createInterval(request);
+
+            ArgumentCaptor<Interval> captor = ArgumentCaptor.forClass(Interval.class);
+            verify(intervalRepository).saveAndFlush(captor.capture());
+            assertEquals("alice", captor.getValue().getOwnerId());
+            assertEquals(day, captor.getValue().getDay());
+            verify(occupancyIndex).findOverlapping(new TimelineKey("alice", day), 1000, 2000, IntervalServiceImpl.MAX_CONFLICTS);
+        }
+
+        @Test
+        @DisplayName("Должен опубликовать событие о созданном интервале")
+        void createInterval_WhenSaved_PublishesCreatedEvent() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+            Interval savedInterval = createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any(Interval.class))).thenReturn(savedInterval);
+            when(intervalMapper.mapToDto(savedInterval)).thenReturn(createResponse("id", 1000, 2000));
+
+            intervalService.createInterval(request);
+
+            verify(eventPublisher).publishEvent(new IntervalCreatedEvent(savedInterval));
+        }
+
+        @Test
+        @DisplayName("Должен учесть созданный интервал в метриках")
+        void createInterval_WhenSaved_RecordsMetrics() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+            Interval savedInterval = createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any(Interval.class))).thenReturn(savedInterval);
+            when(intervalMapper.mapToDto(savedInterval)).thenReturn(createResponse("id", 1000, 2000));
+
+            intervalService.createInterval(request);
+
+            assertEquals(1.0, meterRegistry.get("intervals.created").counter().count());
+            assertEquals(1, meterRegistry.get("intervals.overlap.check").timer().count());
+            assertEquals(1, meterRegistry.get("intervals.insert").timer().count());
+        }
+
         @Test
         @DisplayName("Должен создать интервал типа WORK")
         void createInterval_WorkType_Success() {
             CreateIntervalRequest request = createRequest(0, 1000, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(anyInt(), anyInt())).thenReturn(false);
-            when(intervalRepository.save(any())).thenReturn(createInterval(UUID.randomUUID(), 0, 1000, ActivityType.WORK));
+            when(intervalRepository.saveAndFlush(any())).thenReturn(createInterval(UUID.randomUUID(), 0, 1000, ActivityType.WORK));
             when(intervalMapper.mapToDto(any())).thenReturn(createResponse("id", 0, 1000));
 
             IntervalResponse result = intervalService.createInterval(request);
 
             assertNotNull(result);
-            verify(intervalRepository).save(any(Interval.class));
+            verify(intervalRepository).saveAndFlush(any(Interval.class));
         }
 
         @Test
@@ -92,14 +176,13 @@ class IntervalServiceImplTest {
         void createInterval_BreakType_Success() {
             CreateIntervalRequest request = createRequest(3000, 4000, org.openapitools.model.ActivityType.BREAK);
 
-            when(intervalRepository.existsOverlapping(anyInt(), anyInt())).thenReturn(false);
-            when(intervalRepository.save(any())).thenReturn(createInterval(UUID.randomUUID(), 3000, 4000, ActivityType.BREAK));
+            when(intervalRepository.saveAndFlush(any())).thenReturn(createInterval(UUID.randomUUID(), 3000, 4000, ActivityType.BREAK));
             when(intervalMapper.mapToDto(any())).thenReturn(createResponse("id", 3000, 4000));
 
             IntervalResponse result = intervalService.createInterval(request);
 
             assertNotNull(result);
-            verify(intervalRepository).save(any(Interval.class));
+            verify(intervalRepository).saveAndFlush(any(Interval.class));
         }
 
         @Test
@@ -107,14 +190,13 @@ class IntervalServiceImplTest {
         void createInterval_BoundaryValues_Success() {
             CreateIntervalRequest request = createRequest(0, 86400, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(0, 86400)).thenReturn(false);
-            when(intervalRepository.save(any())).thenReturn(createInterval(UUID.randomUUID(), 0, 86400, ActivityType.WORK));
+            when(intervalRepository.saveAndFlush(any())).thenReturn(createInterval(UUID.randomUUID(), 0, 86400, ActivityType.WORK));
             when(intervalMapper.mapToDto(any())).thenReturn(createResponse("id", 0, 86400));
 
             IntervalResponse result = intervalService.createInterval(request);
 
             assertNotNull(result);
-            verify(intervalRepository).existsOverlapping(0, 86400);
+            verify(occupancyIndex).findOverlapping(TIMELINE, 0, 86400, IntervalServiceImpl.MAX_CONFLICTS);
         }
     }
 
@@ -133,8 +215,8 @@ class IntervalServiceImplTest {
             );
 
             assertEquals("start должен быть меньше end", exception.getMessage());
-            verify(intervalRepository, never()).save(any());
-            verify(intervalRepository, never()).existsOverlapping(anyInt(), anyInt());
+            verify(intervalRepository, never()).saveAndFlush(any());
+            verify(occupancyIndex, never()).findOverlapping(any(), anyInt(), anyInt(), anyInt());
         }
 
         @Test
@@ -148,7 +230,51 @@ class IntervalServiceImplTest {
             );
 
             assertEquals("start должен быть меньше end", exception.getMessage());
-            verify(intervalRepository, never()).save(any());
+            verify(intervalRepository, never()).saveAndFlush(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("createInterval - День таймлайна")
+    class CreateIntervalDayTests {
+
+        @Test
+        @DisplayName("Должен подставить текущий день по часам резолвера, если день не указан")
+        void createInterval_WithoutDay_UsesResolverToday() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK).day(null);
+            Interval savedInterval = createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any(Interval.class))).thenReturn(savedInterval);
+
+            intervalService.createInterval(request);
+
+            ArgumentCaptor<Interval> captor = ArgumentCaptor.forClass(Interval.class);
+            verify(intervalRepository).saveAndFlush(captor.capture());
+            assertEquals(DAY, captor.getValue().getDay());
+        }
+
+        @Test
+        @DisplayName("Должен отклонить день вне допустимого диапазона без обращения к БД")
+        void createInterval_WithDayOutsideWindow_ThrowsException() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK)
+                    .day(LocalDate.of(1, 1, 1));
+
+            assertThrows(InvalidDayException.class, () -> intervalService.createInterval(request));
+
+            verifyNoInteractions(intervalRepository);
+        }
+
+        @Test
+        @DisplayName("Должен отклонить пакет, если день одного из элементов вне допустимого диапазона")
+        void createIntervals_WithDayOutsideWindow_ThrowsException() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(0, 1000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(2000, 3000, org.openapitools.model.ActivityType.WORK).day(DAY.plusYears(2))
+            );
+
+            assertThrows(InvalidDayException.class, () -> intervalService.createIntervals(requests));
+
+            verifyNoInteractions(intervalRepository);
         }
     }
 
@@ -159,17 +285,23 @@ class IntervalServiceImplTest {
         @Test
         @DisplayName("Должен выбросить исключение при полном совпадении интервалов")
         void createInterval_ExactOverlap_ThrowsException() {
-            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+            CreateIntervalRequest request = createRequest(28800, 32400, org.openapitools.model.ActivityType.WORK);
+            Interval stored = createInterval(UUID.randomUUID(), 28800, 32400, ActivityType.WORK);
+            IntervalResponse storedResponse = createResponse("stored-id", 28800, 32400);
 
-            when(intervalRepository.existsOverlapping(1000, 2000)).thenReturn(true);
+            when(occupancyIndex.findOverlapping(TIMELINE, 28800, 32400, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of(stored));
+            when(intervalMapper.mapToDtos(List.of(stored))).thenReturn(List.of(storedResponse));
 
             IntervalOverlapException exception = assertThrows(
                     IntervalOverlapException.class,
                     () -> intervalService.createInterval(request)
             );
 
-            assertEquals("Интервал пересекается с существующим", exception.getMessage());
-            verify(intervalRepository, never()).save(any());
+            assertEquals("Интервал пересекается с существующим: 08:00:00-09:00:00 (Работа)", exception.getMessage());
+            assertEquals(List.of(storedResponse), exception.getConflicts());
+            verify(intervalRepository, never()).saveAndFlush(any());
+            assertEquals(1.0, meterRegistry.get("intervals.rejected").tag("reason", "overlap").counter().count());
         }
 
         @Test
@@ -177,13 +309,14 @@ class IntervalServiceImplTest {
         void createInterval_NewInsideExisting_ThrowsException() {
             CreateIntervalRequest request = createRequest(1500, 2500, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(1500, 2500)).thenReturn(true);
+            when(occupancyIndex.findOverlapping(TIMELINE, 1500, 2500, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of(createInterval(UUID.randomUUID(), 1000, 3000, ActivityType.WORK)));
 
             assertThrows(IntervalOverlapException.class, () -> {
                 intervalService.createInterval(request);
             });
 
-            verify(intervalRepository, never()).save(any());
+            verify(intervalRepository, never()).saveAndFlush(any());
         }
 
         @Test
@@ -191,13 +324,14 @@ class IntervalServiceImplTest {
         void createInterval_NewCoversExisting_ThrowsException() {
             CreateIntervalRequest request = createRequest(500, 3000, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(500, 3000)).thenReturn(true);
+            when(occupancyIndex.findOverlapping(TIMELINE, 500, 3000, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of(createInterval(UUID.randomUUID(), 1000, 3000, ActivityType.WORK)));
 
             assertThrows(IntervalOverlapException.class, () -> {
                 intervalService.createInterval(request);
             });
 
-            verify(intervalRepository, never()).save(any());
+            verify(intervalRepository, never()).saveAndFlush(any());
         }
 
         @Test
@@ -205,13 +339,14 @@ class IntervalServiceImplTest {
         void createInterval_OverlapLeft_ThrowsException() {
             CreateIntervalRequest request = createRequest(1000, 2500, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(1000, 2500)).thenReturn(true);
+            when(occupancyIndex.findOverlapping(TIMELINE, 1000, 2500, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of(createInterval(UUID.randomUUID(), 1000, 3000, ActivityType.WORK)));
 
             assertThrows(IntervalOverlapException.class, () -> {
                 intervalService.createInterval(request);
             });
 
-            verify(intervalRepository, never()).save(any());
+            verify(intervalRepository, never()).saveAndFlush(any());
         }
 
         @Test
@@ -219,13 +354,91 @@ class IntervalServiceImplTest {
         void createInterval_OverlapRight_ThrowsException() {
             CreateIntervalRequest request = createRequest(1500, 3000, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(1500, 3000)).thenReturn(true);
+            when(occupancyIndex.findOverlapping(TIMELINE, 1500, 3000, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of(createInterval(UUID.randomUUID(), 1000, 3000, ActivityType.WORK)));
 
             assertThrows(IntervalOverlapException.class, () -> {
                 intervalService.createInterval(request);
             });
 
-            verify(intervalRepository, never()).save(any());
+            verify(intervalRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        @DisplayName("Должен выбросить исключение при нарушении ограничения на пересечение в БД")
+        void createInterval_WhenExclusionConstraintViolated_ThrowsException() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                    "conflicting key value violates exclusion constraint",
+                    new SQLException("conflicting key value violates exclusion constraint", "23P01")
+            ));
+
+            IntervalOverlapException exception = assertThrows(
+                    IntervalOverlapException.class,
+                    () -> intervalService.createInterval(request)
+            );
+
+            assertEquals("Интервал пересекается с существующим", exception.getMessage());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("После нарушения ограничения не должен читать из БД вытесненный таймлайн")
+        void createInterval_WhenConstraintViolatedAndTimelineEvicted_ReturnsOverlapWithoutQuery() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                    "conflicting key value violates exclusion constraint",
+                    new SQLException("conflicting key value violates exclusion constraint", "23P01")
+            ));
+            when(occupancyIndex.findLoadedOverlapping(TIMELINE, 1000, 2000, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of());
+
+            IntervalOverlapException exception = assertThrows(
+                    IntervalOverlapException.class,
+                    () -> intervalService.createInterval(request)
+            );
+
+            assertTrue(exception.getConflicts().isEmpty());
+            verify(occupancyIndex, times(1)).findOverlapping(any(), anyInt(), anyInt(), anyInt());
+            verify(intervalRepository, never()).findByOwnerIdAndDay(any(), any());
+        }
+
+        @Test
+        @DisplayName("После нарушения ограничения должен вернуть пересечения из загруженного таймлайна")
+        void createInterval_WhenConstraintViolatedAndTimelineLoaded_ReturnsConflicts() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+            Interval stored = createInterval(UUID.randomUUID(), 1500, 2500, ActivityType.WORK);
+            IntervalResponse storedResponse = createResponse("stored-id", 1500, 2500);
+
+            when(intervalRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                    "conflicting key value violates exclusion constraint",
+                    new SQLException("conflicting key value violates exclusion constraint", "23P01")
+            ));
+            when(occupancyIndex.findLoadedOverlapping(TIMELINE, 1000, 2000, IntervalServiceImpl.MAX_CONFLICTS))
+                    .thenReturn(List.of(stored));
+            when(intervalMapper.mapToDtos(List.of(stored))).thenReturn(List.of(storedResponse));
+
+            IntervalOverlapException exception = assertThrows(
+                    IntervalOverlapException.class,
+                    () -> intervalService.createInterval(request)
+            );
+
+            assertEquals(List.of(storedResponse), exception.getConflicts());
+        }
+
+        @Test
+        @DisplayName("Должен пробросить прочие нарушения целостности без изменений")
+        void createInterval_WhenOtherIntegrityViolation_Rethrows() {
+            CreateIntervalRequest request = createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK);
+
+            when(intervalRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                    "new row violates check constraint",
+                    new SQLException("new row violates check constraint", "23514")
+            ));
+
+            assertThrows(DataIntegrityViolationException.class, () -> intervalService.createInterval(request));
         }
 
         @Test
@@ -233,14 +446,123 @@ class IntervalServiceImplTest {
         void createInterval_TouchingBoundaries_Success() {
             CreateIntervalRequest request = createRequest(2000, 3000, org.openapitools.model.ActivityType.WORK);
 
-            when(intervalRepository.existsOverlapping(2000, 3000)).thenReturn(false);
-            when(intervalRepository.save(any())).thenReturn(createInterval(UUID.randomUUID(), 2000, 3000, ActivityType.WORK));
+            when(intervalRepository.saveAndFlush(any())).thenReturn(createInterval(UUID.randomUUID(), 2000, 3000, ActivityType.WORK));
             when(intervalMapper.mapToDto(any())).thenReturn(createResponse("id", 2000, 3000));
 
             IntervalResponse result = intervalService.createInterval(request);
 
             assertNotNull(result);
-            verify(intervalRepository).save(any());
+            verify(intervalRepository).saveAndFlush(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("createIntervals - Пакетное создание")
+    class CreateIntervalsBatchTests {
+
+        @Test
+        @DisplayName("Должен сохранить весь пакет одним вызовом и вернуть ответы в исходном порядке")
+        void createIntervals_WhenNoOverlaps_SavesAll() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(3000, 4000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(1000, 2000, org.openapitools.model.ActivityType.BREAK)
+            );
+            List<Interval> savedIntervals = List.of(
+                    createInterval(UUID.randomUUID(), 3000, 4000, ActivityType.WORK),
+                    createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.BREAK)
+            );
+            List<IntervalResponse> responses = List.of(
+                    createResponse("id1", 3000, 4000),
+                    createResponse("id2", 1000, 2000)
+            );
+
+            when(intervalRepository.findOverlapping(OWNER, DAY, 1000, 4000)).thenReturn(List.of());
+            when(intervalRepository.saveAllAndFlush(anyList())).thenReturn(savedIntervals);
+            when(intervalMapper.mapToDtos(savedIntervals)).thenReturn(responses);
+
+            List<IntervalResponse> result = intervalService.createIntervals(requests);
+
+            assertEquals(responses, result);
+            verify(intervalRepository).findOverlapping(OWNER, DAY, 1000, 4000);
+            verify(intervalRepository).saveAllAndFlush(anyList());
+            verify(eventPublisher, times(2)).publishEvent(any(IntervalCreatedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Должен отклонить пакет с пересекающимися между собой интервалами")
+        void createIntervals_WhenItemsOverlapEachOther_ThrowsException() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(0, 1000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(5000, 6000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(900, 1200, org.openapitools.model.ActivityType.BREAK)
+            );
+
+            when(intervalRepository.findOverlapping(OWNER, DAY, 0, 6000)).thenReturn(List.of());
+
+            IntervalOverlapException exception = assertThrows(
+                    IntervalOverlapException.class,
+                    () -> intervalService.createIntervals(requests)
+            );
+
+            assertEquals(List.of(0, 2), exception.getConflictingItems());
+            verify(intervalRepository, never()).saveAllAndFlush(anyList());
+        }
+
+        @Test
+        @DisplayName("Должен отклонить пакет с интервалами, пересекающими сохраненные")
+        void createIntervals_WhenItemsOverlapStored_ThrowsException() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(0, 1000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(2000, 3000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(3500, 4500, org.openapitools.model.ActivityType.BREAK)
+            );
+
+            Interval storedBreak = createInterval(UUID.randomUUID(), 4000, 5000, ActivityType.BREAK);
+            when(intervalRepository.findOverlapping(OWNER, DAY, 0, 4500)).thenReturn(List.of(
+                    createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK),
+                    storedBreak
+            ));
+
+            IntervalOverlapException exception = assertThrows(
+                    IntervalOverlapException.class,
+                    () -> intervalService.createIntervals(requests)
+            );
+
+            assertEquals(List.of(2), exception.getConflictingItems());
+            verify(intervalMapper).mapToDtos(List.of(storedBreak));
+            verify(intervalRepository, never()).saveAllAndFlush(anyList());
+        }
+
+        @Test
+        @DisplayName("Не должен считать пересечением одинаковые интервалы разных владельцев")
+        void createIntervals_WhenSameRangeForDifferentOwners_SavesAll() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK).ownerId("alice"),
+                    createRequest(1000, 2000, org.openapitools.model.ActivityType.WORK).ownerId("bob")
+            );
+
+            when(intervalRepository.findOverlapping(anyString(), any(), anyInt(), anyInt())).thenReturn(List.of());
+            when(intervalRepository.saveAllAndFlush(anyList())).thenReturn(List.of());
+            when(intervalMapper.mapToDtos(List.of())).thenReturn(List.of());
+
+            intervalService.createIntervals(requests);
+
+            verify(intervalRepository).findOverlapping("alice", DAY, 1000, 2000);
+            verify(intervalRepository).findOverlapping("bob", DAY, 1000, 2000);
+            verify(intervalRepository).saveAllAndFlush(anyList());
+        }
+
+        @Test
+        @DisplayName("Должен отклонить пакет с невалидным интервалом без обращения к БД")
+        void createIntervals_WhenItemInvalid_ThrowsException() {
+            List<CreateIntervalRequest> requests = List.of(
+                    createRequest(0, 1000, org.openapitools.model.ActivityType.WORK),
+                    createRequest(2000, 2000, org.openapitools.model.ActivityType.WORK)
+            );
+
+            assertThrows(InvalidIntervalException.class, () -> intervalService.createIntervals(requests));
+
+            verifyNoInteractions(intervalRepository);
         }
     }
 
@@ -253,44 +575,41 @@ class IntervalServiceImplTest {
         void getAllIntervals_ReturnsAllIntervals() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            List<Interval> intervals = Arrays.asList(
-                    createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK),
-                    createInterval(UUID.randomUUID(), 3000, 4000, ActivityType.BREAK)
+            List<IntervalView> intervals = Arrays.asList(
+                    createView(UUID.randomUUID(), 1000, 2000, ActivityType.WORK),
+                    createView(UUID.randomUUID(), 3000, 4000, ActivityType.BREAK)
             );
 
-            Page<Interval> page = new PageImpl<>(intervals);
-
             List<IntervalResponse> responses = Arrays.asList(
                     createResponse("id1", 1000, 2000),
                     createResponse("id2", 3000, 4000)
             );
 
-            when(intervalRepository.findAll(pageable)).thenReturn(page);
-            when(intervalRepository.count()).thenReturn(2L);
-            when(intervalMapper.mapToDtos(intervals)).thenReturn(responses);
+            when(intervalRepository.findPage(OWNER, DAY, pageable)).thenReturn(intervals);
+            when(occupancyIndex.count(TIMELINE)).thenReturn(2L);
+            when(intervalMapper.mapViewsToDtos(intervals)).thenReturn(responses);
 
-            IntervalsListResponse result = intervalService.getAllIntervals(pageable);
+            IntervalsListResponse result = intervalService.getAllIntervals(TIMELINE, pageable, true);
 
             assertNotNull(result);
             assertEquals(2, result.getIntervals().size());
             assertEquals(2L, result.getTotalElements());
 
-            verify(intervalRepository).findAll(pageable);
-            verify(intervalRepository).count();
-            verify(intervalMapper).mapToDtos(intervals);
+            verify(intervalRepository).findPage(OWNER, DAY, pageable);
+            verify(occupancyIndex).count(TIMELINE);
+            verify(intervalMapper).mapViewsToDtos(intervals);
         }
 
         @Test
         @DisplayName("Должен вернуть пустой список когда интервалов нет")
         void getAllIntervals_WhenEmpty_ReturnsEmptyList() {
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Interval> emptyPage = new PageImpl<>(List.of());
 
-            when(intervalRepository.findAll(pageable)).thenReturn(emptyPage);
-            when(intervalRepository.count()).thenReturn(0L);
-            when(intervalMapper.mapToDtos(List.of())).thenReturn(List.of());
+            when(intervalRepository.findPage(OWNER, DAY, pageable)).thenReturn(List.of());
+            when(occupancyIndex.count(TIMELINE)).thenReturn(0L);
+            when(intervalMapper.mapViewsToDtos(List.of())).thenReturn(List.of());
 
-            IntervalsListResponse result = intervalService.getAllIntervals(pageable);
+            IntervalsListResponse result = intervalService.getAllIntervals(TIMELINE, pageable, true);
 
             assertNotNull(result);
             assertEquals(0, result.getIntervals().size());
@@ -302,25 +621,202 @@ class IntervalServiceImplTest {
         void getAllIntervals_WithPagination_ReturnsCorrectPage() {
             Pageable pageable = PageRequest.of(1, 5);
 
-            List<Interval> intervals = List.of(
-                    createInterval(UUID.randomUUID(), 5000, 6000, ActivityType.WORK)
+            List<IntervalView> intervals = List.of(
+                    createView(UUID.randomUUID(), 5000, 6000, ActivityType.WORK)
             );
 
-            Page<Interval> page = new PageImpl<>(intervals, pageable, 10);
-
-            when(intervalRepository.findAll(pageable)).thenReturn(page);
-            when(intervalRepository.count()).thenReturn(10L);
-            when(intervalMapper.mapToDtos(intervals)).thenReturn(
+            when(intervalRepository.findPage(OWNER, DAY, pageable)).thenReturn(intervals);
+            when(occupancyIndex.count(TIMELINE)).thenReturn(10L);
+            when(intervalMapper.mapViewsToDtos(intervals)).thenReturn(
                     List.of(createResponse("id", 5000, 6000))
             );
 
-            IntervalsListResponse result = intervalService.getAllIntervals(pageable);
+            IntervalsListResponse result = intervalService.getAllIntervals(TIMELINE, pageable, true);
 
             assertNotNull(result);
             assertEquals(1, result.getIntervals().size());
             assertEquals(10L, result.getTotalElements());
 
-            verify(intervalRepository).findAll(pageable);
+            verify(intervalRepository).findPage(OWNER, DAY, pageable);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllIntervals - Общее количество")
+    class GetAllIntervalsTotalTests {
+
+        @Test
+        @DisplayName("Должен брать общее количество из индекса без запроса count к БД")
+        void getAllIntervals_TakesTotalFromIndex() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            when(intervalRepository.findPage(OWNER, DAY, pageable)).thenReturn(List.of());
+            when(occupancyIndex.count(TIMELINE)).thenReturn(42L);
+            when(intervalMapper.mapViewsToDtos(List.of())).thenReturn(List.of());
+
+            IntervalsListResponse result = intervalService.getAllIntervals(TIMELINE, pageable, true);
+
+            assertEquals(42L, result.getTotalElements());
+            verify(intervalRepository, never()).count();
+        }
+
+        @Test
+        @DisplayName("Не должен возвращать общее количество при includeTotal=false")
+        void getAllIntervals_WithoutTotal_OmitsTotalElements() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            when(intervalRepository.findPage(OWNER, DAY, pageable)).thenReturn(List.of());
+            when(intervalMapper.mapViewsToDtos(List.of())).thenReturn(List.of());
+
+            IntervalsListResponse result = intervalService.getAllIntervals(TIMELINE, pageable, false);
+
+            assertNull(result.getTotalElements());
+        }
+    }
+
+    @Nested
+    @DisplayName("getIntervalsAfter - Постраничный обход по курсору")
+    class GetIntervalsAfterTests {
+
+        @Test
+        @DisplayName("Должен вернуть курсор следующей страницы в режиме смещения")
+        void getAllIntervals_WhenMorePagesExist_ReturnsNextCursor() {
+            Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "start"));
+            UUID lastId = UUID.randomUUID();
+            List<IntervalView> intervals = List.of(
+                    createView(UUID.randomUUID(), 1000, 2000, ActivityType.WORK),
+                    createView(lastId, 3000, 4000, ActivityType.BREAK)
+            );
+
+            when(intervalRepository.findPage(OWNER, DAY, pageable)).thenReturn(intervals);
+            when(occupancyIndex.count(TIMELINE)).thenReturn(5L);
+            when(intervalMapper.mapViewsToDtos(intervals)).thenReturn(List.of());
+
+            IntervalsListResponse result = intervalService.getAllIntervals(TIMELINE, pageable, true);
+
+            IntervalCursor cursor = IntervalCursor.decode(result.getNextCursor());
+            assertEquals(Sort.Order.asc("start"), cursor.order());
+            assertEquals(3000, cursor.key());
+            assertEquals(lastId, cursor.id());
+        }
+
+        @Test
+        @DisplayName("Должен продолжить обход с позиции курсора и вернуть следующий курсор")
+        void getIntervalsAfter_WhenMoreRowsExist_ReturnsNextCursor() {
+            UUID cursorId = UUID.randomUUID();
+            String cursor = new IntervalCursor(Sort.Order.desc("end"), 5000, cursorId).encode();
+            UUID lastId = UUID.randomUUID();
+            List<IntervalView> intervals = List.of(
+                    createView(UUID.randomUUID(), 3000, 4000, ActivityType.WORK),
+                    createView(lastId, 1000, 2000, ActivityType.BREAK),
+                    createView(UUID.randomUUID(), 0, 500, ActivityType.WORK)
+            );
+
+            when(intervalRepository.findAfter(TIMELINE, Sort.Order.desc("end"), 5000, cursorId, 3)).thenReturn(intervals);
+            when(occupancyIndex.count(TIMELINE)).thenReturn(10L);
+            when(intervalMapper.mapViewsToDtos(intervals.subList(0, 2))).thenReturn(List.of(
+                    createResponse("id1", 3000, 4000),
+                    createResponse("id2", 1000, 2000)
+            ));
+
+            IntervalsListResponse result = intervalService.getIntervalsAfter(TIMELINE, cursor, 2, true);
+
+            assertEquals(2, result.getIntervals().size());
+            IntervalCursor next = IntervalCursor.decode(result.getNextCursor());
+            assertEquals(Sort.Order.desc("end"), next.order());
+            assertEquals(2000, next.key());
+            assertEquals(lastId, next.id());
+        }
+
+        @Test
+        @DisplayName("Не должен возвращать курсор на последней странице")
+        void getIntervalsAfter_OnLastPage_ReturnsNoCursor() {
+            UUID cursorId = UUID.randomUUID();
+            String cursor = new IntervalCursor(Sort.Order.asc("type"), ActivityType.BREAK, cursorId).encode();
+            List<IntervalView> intervals = List.of(createView(UUID.randomUUID(), 0, 500, ActivityType.WORK));
+
+            when(intervalRepository.findAfter(TIMELINE, Sort.Order.asc("type"), ActivityType.BREAK, cursorId, 11)).thenReturn(intervals);
+            when(occupancyIndex.count(TIMELINE)).thenReturn(3L);
+            when(intervalMapper.mapViewsToDtos(intervals)).thenReturn(List.of(createResponse("id", 0, 500)));
+
+            IntervalsListResponse result = intervalService.getIntervalsAfter(TIMELINE, cursor, 10, true);
+
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("Должен выбросить исключение для некорректного курсора")
+        void getIntervalsAfter_WithMalformedCursor_ThrowsException() {
+            assertThrows(InvalidCursorException.class, () -> intervalService.getIntervalsAfter(TIMELINE, "not-a-cursor", 10, true));
+            assertThrows(InvalidCursorException.class, () -> intervalService.getIntervalsAfter(TIMELINE, 
+                    new IntervalCursor(Sort.Order.asc("createdAt"), 1, UUID.randomUUID()).encode(), 10, true));
+
+            verifyNoInteractions(intervalRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Запросы по диапазону")
+    class RangeQueryTests {
+
+        @Test
+        @DisplayName("Должен вернуть интервал, содержащий указанную секунду")
+        void getIntervalsCovering_ReturnsCoveringInterval() {
+            List<Interval> intervals = List.of(createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK));
+
+            when(intervalRepository.findCovering(OWNER, DAY, 1500)).thenReturn(intervals);
+            when(intervalMapper.mapToDtos(intervals)).thenReturn(List.of(createResponse("id", 1000, 2000)));
+
+            IntervalsListResponse result = intervalService.getIntervalsCovering(TIMELINE, 1500);
+
+            assertEquals(1, result.getIntervals().size());
+            assertEquals(1L, result.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("Должен вернуть интервалы, пересекающие окно, и их количество")
+        void getIntervalsIntersecting_ReturnsPageAndTotal() {
+            Pageable pageable = PageRequest.of(0, 10);
+            List<Interval> intervals = List.of(
+                    createInterval(UUID.randomUUID(), 1000, 2000, ActivityType.WORK),
+                    createInterval(UUID.randomUUID(), 3000, 4000, ActivityType.BREAK)
+            );
+
+            when(intervalRepository.findIntersecting(OWNER, DAY, 1500, 3500, pageable)).thenReturn(intervals);
+            when(intervalRepository.countIntersecting(OWNER, DAY, 1500, 3500)).thenReturn(2L);
+            when(intervalMapper.mapToDtos(intervals)).thenReturn(List.of(
+                    createResponse("id1", 1000, 2000),
+                    createResponse("id2", 3000, 4000)
+            ));
+
+            IntervalsListResponse result = intervalService.getIntervalsIntersecting(TIMELINE, 1500, 3500, pageable, true);
+
+            assertEquals(2, result.getIntervals().size());
+            assertEquals(2L, result.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("Не должен выполнять подсчет при includeTotal=false")
+        void getIntervalsIntersecting_WithoutTotal_SkipsCount() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            when(intervalRepository.findIntersecting(OWNER, DAY, 0, 100, pageable)).thenReturn(List.of());
+            when(intervalMapper.mapToDtos(List.of())).thenReturn(List.of());
+
+            IntervalsListResponse result = intervalService.getIntervalsIntersecting(TIMELINE, 0, 100, pageable, false);
+
+            assertNull(result.getTotalElements());
+            verify(intervalRepository, never()).countIntersecting(any(), any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Должен вернуть пустой результат для пустого окна без обращения к БД")
+        void getIntervalsIntersecting_WithEmptyWindow_ReturnsEmpty() {
+            IntervalsListResponse result = intervalService.getIntervalsIntersecting(TIMELINE, 500, 500, PageRequest.of(0, 10), true);
+
+            assertTrue(result.getIntervals().isEmpty());
+            assertEquals(0L, result.getTotalElements());
+            verifyNoInteractions(intervalRepository);
         }
     }
 
@@ -329,12 +825,15 @@ class IntervalServiceImplTest {
         request.setStart(start);
         request.setEnd(end);
         request.setType(type);
+        request.setDay(DAY);
         return request;
     }
 
     private Interval createInterval(UUID id, Integer start, Integer end, ActivityType type) {
         Interval interval = new Interval();
         interval.setId(id);
+        interval.setOwnerId(OWNER);
+        interval.setDay(DAY);
         interval.setStart(start);
         interval.setEnd(end);
         interval.setType(type);
@@ -342,6 +841,10 @@ class IntervalServiceImplTest {
         return interval;
     }
 
+    private IntervalView createView(UUID id, Integer start, Integer end, ActivityType type) {
+        return new IntervalView(id, OWNER, DAY, start, end, type, OffsetDateTime.now());
+    }
+
     private IntervalResponse createResponse(String id, Integer start, Integer end) {
         IntervalResponse response = new IntervalResponse();
         response.setId(id);
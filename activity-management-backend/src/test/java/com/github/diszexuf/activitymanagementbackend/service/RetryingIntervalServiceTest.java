@@ -0,0 +1,82 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.exception.IntervalOverlapException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.model.CreateIntervalRequest;
+import org.openapitools.model.IntervalResponse;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryingIntervalService Unit Tests")
+class RetryingIntervalServiceTest {
+
+    @Mock
+    private IntervalServiceImpl delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RetryingIntervalService retryingService;
+
+    @BeforeEach
+    void setUp() {
+        IntervalMetrics metrics = new IntervalMetrics(meterRegistry, mock(IntervalOccupancyIndex.class));
+        retryingService = new RetryingIntervalService(delegate, metrics, 3, Duration.ofMillis(1), Duration.ofMillis(4));
+    }
+
+    @Test
+    @DisplayName("Должен повторить транзакцию после конфликта и вернуть результат")
+    void createInterval_AfterTransientFailures_ReturnsResult() {
+        CreateIntervalRequest request = new CreateIntervalRequest();
+        IntervalResponse response = new IntervalResponse();
+
+        when(delegate.createInterval(request))
+                .thenThrow(new CannotAcquireLockException("deadlock detected"))
+                .thenThrow(new PessimisticLockingFailureException("could not serialize access"))
+                .thenReturn(response);
+
+        assertSame(response, retryingService.createInterval(request));
+
+        verify(delegate, times(3)).createInterval(request);
+        assertEquals(3.0, meterRegistry.get("intervals.create.attempts").summary().totalAmount());
+        assertEquals(2.0, meterRegistry.get("intervals.serialization.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("Должен вернуть ошибку после исчерпания попыток")
+    void createInterval_WhenBudgetExhausted_Rethrows() {
+        CreateIntervalRequest request = new CreateIntervalRequest();
+
+        when(delegate.createInterval(request)).thenThrow(new CannotAcquireLockException("deadlock detected"));
+
+        assertThrows(ConcurrencyFailureException.class, () -> retryingService.createInterval(request));
+
+        verify(delegate, times(3)).createInterval(request);
+        assertEquals(1.0, meterRegistry.get("intervals.retry.exhausted").counter().count());
+        assertEquals(3.0, meterRegistry.get("intervals.serialization.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("Не должен повторять пересечение интервалов")
+    void createInterval_WhenOverlap_DoesNotRetry() {
+        CreateIntervalRequest request = new CreateIntervalRequest();
+
+        when(delegate.createInterval(request)).thenThrow(new IntervalOverlapException("Интервал пересекается с существующим"));
+
+        assertThrows(IntervalOverlapException.class, () -> retryingService.createInterval(request));
+
+        verify(delegate, times(1)).createInterval(request);
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.diszexuf.activitymanagementbackend.service;
+
+import com.github.diszexuf.activitymanagementbackend.exception.InvalidDayException;
+import com.github.diszexuf.activitymanagementbackend.model.TimelineKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimelineResolver Unit Tests")
+class TimelineResolverTest {
+
+    // 2026-01-15 22:30 UTC - в Москве уже 16 января
+    private static final Instant NOW = Instant.parse("2026-01-15T22:30:00Z");
+
+    private final TimelineResolver resolver = new TimelineResolver(
+            Clock.fixed(NOW, ZoneId.of("Europe/Moscow")), Period.ofDays(30), Period.ofDays(7));
+
+    @Test
+    @DisplayName("Должен подставить владельца по умолчанию и текущий день в поясе часов")
+    void resolve_WithoutOwnerAndDay_UsesDefaultsInConfiguredZone() {
+        assertEquals(new TimelineKey(TimelineKey.DEFAULT_OWNER, LocalDate.of(2026, 1, 16)), resolver.resolve(null, null));
+    }
+
+    @Test
+    @DisplayName("Не должен ограничивать день при чтении")
+    void resolve_WithAnyDay_KeepsDay() {
+        assertEquals(new TimelineKey("alice", LocalDate.of(1, 1, 1)), resolver.resolve("alice", LocalDate.of(1, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Должен принять границы допустимого диапазона записи")
+    void resolveForWrite_OnWindowBounds_ReturnsTimeline() {
+        assertEquals(LocalDate.of(2025, 12, 17), resolver.resolveForWrite("alice", LocalDate.of(2025, 12, 17)).day());
+        assertEquals(LocalDate.of(2026, 1, 23), resolver.resolveForWrite("alice", LocalDate.of(2026, 1, 23)).day());
+    }
+
+    @Test
+    @DisplayName("Должен отклонить день вне допустимого диапазона записи")
+    void resolveForWrite_OutsideWindow_ThrowsException() {
+        assertThrows(InvalidDayException.class, () -> resolver.resolveForWrite("alice", LocalDate.of(2025, 12, 16)));
+        assertThrows(InvalidDayException.class, () -> resolver.resolveForWrite("alice", LocalDate.of(2026, 1, 24)));
+        assertThrows(InvalidDayException.class, () -> resolver.resolveForWrite(null, LocalDate.of(9999, 12, 31)));
+    }
+}
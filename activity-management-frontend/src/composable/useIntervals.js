@@ -1,4 +1,4 @@
-import { computed, ref, watch } from 'vue'
+import { computed, onScopeDispose, ref, watch } from 'vue'
 import intervalsService from '../service/intervalsService.js'
 import { ACTIVITY_TYPE_DICT, ACTIVITY_COLORS } from '../constants/activityTypes.js'
 
@@ -22,12 +22,21 @@ const getSavedSettings = () => {
 
 const savedSettings = getSavedSettings()
 
+const DEFAULT_OWNER = 'default'
+
+// День в часовом поясе пользователя в формате YYYY-MM-DD
+const today = () => {
+    const now = new Date()
+    return new Date(now.getTime() - now.getTimezoneOffset() * 60000).toISOString().slice(0, 10)
+}
+
 export function useIntervals() {
     const intervals = ref([])
     const loading = ref(false)
     const error = ref(null)
     const dialogOpen = ref(false)
     const totalElements = ref(0)
+    const timeline = { day: today(), ownerId: DEFAULT_OWNER }
 
     const page = ref(savedSettings.page)
     const itemsPerPage = ref(savedSettings.itemsPerPage)
@@ -54,7 +63,7 @@ export function useIntervals() {
                 ? `${sortBy.value[0].key},${sortBy.value[0].order}`
                 : 'start,asc'
 
-            const response = await intervalsService.getAllIntervals(apiPage, itemsPerPage.value, apiSort)
+            const response = await intervalsService.getAllIntervals(apiPage, itemsPerPage.value, apiSort, timeline)
 
             intervals.value = response.intervals || []
             totalElements.value = response.totalElements || 0
@@ -68,10 +77,54 @@ export function useIntervals() {
         }
     }
 
+    const compareBy = (key, order) => (a, b) => {
+        const result = a[key] < b[key] ? -1 : a[key] > b[key] ? 1 : 0
+        return order === 'desc' ? -result : result
+    }
+
+    // Созданный интервал приходит и в ответе на POST, и из потока изменений
+    const appliedIds = new Set()
+
+    const applyCreated = (interval) => {
+        if (appliedIds.has(interval.id)) return
+        if (interval.day !== timeline.day || interval.ownerId !== timeline.ownerId) return
+        appliedIds.add(interval.id)
+
+        const { key, order } = sortBy.value?.[0] || { key: 'start', order: 'asc' }
+        const items = [...intervals.value, interval].sort(compareBy(key, order))
+        const position = items.indexOf(interval)
+
+        // Интервал с предыдущей страницы сдвигает текущую на одну запись, которой у нас нет
+        if (position === 0 && page.value > 1) {
+            fetchIntervals()
+            return
+        }
+
+        totalElements.value += 1
+        if (position < itemsPerPage.value) {
+            intervals.value = items.slice(0, itemsPerPage.value)
+        }
+    }
+
+    let changes = null
+
+    const subscribeToChanges = () => {
+        if (changes) return
+        changes = intervalsService.subscribeToChanges({
+            onCreated: applyCreated,
+            onImported: fetchIntervals
+        })
+    }
+
+    onScopeDispose(() => {
+        changes?.close()
+        changes = null
+    })
+
     const addInterval = async (intervalData) => {
         try {
-            await intervalsService.createInterval(intervalData)
-            await fetchIntervals()
+            const created = await intervalsService.createInterval({ ...intervalData, ...timeline })
+            applyCreated(created)
             dialogOpen.value = false
         } catch (e) {
             console.error('Error adding interval:', e)
@@ -124,6 +177,7 @@ export function useIntervals() {
         itemsPerPage,
         sortBy,
         fetchIntervals,
+        subscribeToChanges,
         addInterval,
         loadItems,
         openDialog,
@@ -9,9 +9,10 @@ const configuration = new Configuration({
 const intervalsApi = new IntervalsApi(configuration)
 
 export const intervalsService = {
-    async getAllIntervals(page, size, sort) {
+    async getAllIntervals(page, size, sort, {day, ownerId} = {}) {
         try {
-            const response = await intervalsApi.getAllIntervals(page, size, sort)
+            const response = await intervalsApi.getAllIntervals(
+                page, size, sort, undefined, undefined, undefined, undefined, undefined, day, ownerId)
             return response.data
         } catch (e) {
             console.error('Ошибка при получении интервалов', e)
@@ -27,6 +28,16 @@ export const intervalsService = {
             console.error('Ошибка при создании интервала', e)
             throw e
         }
+    },
+
+    subscribeToChanges({onCreated, onImported}) {
+        const source = new EventSource(`${apiBasePath}/intervals/stream`)
+
+        source.addEventListener('interval-created', (event) => onCreated(JSON.parse(event.data)))
+        source.addEventListener('intervals-imported', () => onImported())
+        source.onerror = (e) => console.error('Ошибка подписки на изменения интервалов', e)
+
+        return source
     }
 }
 